@@ -0,0 +1,80 @@
+package com.food.ordering.system.benchmark.common;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order total validation (sum of price * quantity compared against the order price) with the previous
+ * {@link BigDecimal} arithmetic vs the long-cents {@link Money}. Run with {@code -prof gc} to compare allocations.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark package -pl benchmark -am && java -jar benchmark/target/benchmarks.jar MoneyBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int itemCount;
+
+    private BigDecimal[] decimalPrices;
+    private BigDecimal decimalTotal;
+    private Money[] prices;
+    private Money total;
+    private int[] quantities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        decimalPrices = new BigDecimal[itemCount];
+        prices = new Money[itemCount];
+        quantities = new int[itemCount];
+        long totalCents = 0L;
+        for (int i = 0; i < itemCount; i++) {
+            long cents = ThreadLocalRandom.current().nextLong(1L, 100_000L);
+            int quantity = ThreadLocalRandom.current().nextInt(1, 10);
+            decimalPrices[i] = BigDecimal.valueOf(cents, Money.SCALE);
+            prices[i] = Money.ofCents(cents);
+            quantities[i] = quantity;
+            totalCents += cents * quantity;
+        }
+        decimalTotal = BigDecimal.valueOf(totalCents, Money.SCALE);
+        total = Money.ofCents(totalCents);
+    }
+
+    @Benchmark
+    public boolean bigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal subTotal = decimalPrices[i].multiply(new BigDecimal(quantities[i]))
+                    .setScale(Money.SCALE, RoundingMode.HALF_EVEN);
+            sum = sum.add(subTotal).setScale(Money.SCALE, RoundingMode.HALF_EVEN);
+        }
+        return sum.equals(decimalTotal);
+    }
+
+    @Benchmark
+    public boolean moneyValueObjects() {
+        Money sum = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            sum = sum.add(prices[i].multiply(quantities[i]));
+        }
+        return sum.equals(total);
+    }
+
+    @Benchmark
+    public boolean longCents() {
+        long sum = 0L;
+        for (int i = 0; i < itemCount; i++) {
+            sum = Math.addExact(sum, Math.multiplyExact(prices[i].getCents(), (long) quantities[i]));
+        }
+        return sum == total.getCents();
+    }
+}
@@ -0,0 +1,35 @@
+package com.food.ordering.system.benchmark.common;
+
+import com.food.ordering.system.domain.id.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id generation throughput of {@link UUID#randomUUID()} (shared {@link java.security.SecureRandom}) vs the
+ * thread-local {@link UuidV7Generator}, run with several threads to expose contention on the shared generator.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark package -pl benchmark -am && java -jar benchmark/target/benchmarks.jar UuidGeneratorBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class UuidGeneratorBenchmark {
+
+    private final UuidV7Generator uuidV7Generator = new UuidV7Generator();
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return uuidV7Generator.generateId();
+    }
+}
@@ -0,0 +1,83 @@
+package com.food.ordering.system.benchmark.messaging;
+
+import com.food.ordering.system.kafka.consumer.deserializer.SpecificAvroRecordDeserializer;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.avro.Schema;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of one poll's worth of payment requests with the registry {@link KafkaAvroDeserializer} vs
+ * {@link SpecificAvroRecordDeserializer}. Both read the same bytes, written by {@link KafkaAvroSerializer}
+ * against an in-memory registry client. Run with {@code -prof gc} to see allocation per message.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark package -pl benchmark -am && java -jar benchmark/target/benchmarks.jar AvroDeserializerBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(AvroDeserializerBenchmark.BATCH_SIZE)
+public class AvroDeserializerBenchmark {
+
+    static final int BATCH_SIZE = 500;
+    private static final String TOPIC = "payment-request";
+
+    private final byte[][] messages = new byte[BATCH_SIZE][];
+    private KafkaAvroDeserializer kafkaAvroDeserializer;
+    private SpecificAvroRecordDeserializer specificAvroRecordDeserializer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MockSchemaRegistryClient schemaRegistryClient = new MockSchemaRegistryClient();
+        Map<String, Object> configs = Map.of(
+                "schema.registry.url", "mock://benchmark",
+                "specific.avro.reader", true);
+        KafkaAvroSerializer kafkaAvroSerializer = new KafkaAvroSerializer(schemaRegistryClient, configs);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            messages[i] = kafkaAvroSerializer.serialize(TOPIC, PaymentRequestAvroModel.newBuilder()
+                    .setId(UUID.randomUUID().toString())
+                    .setSagaId("")
+                    .setCustomerId(UUID.randomUUID().toString())
+                    .setOrderId(UUID.randomUUID().toString())
+                    .setPrice(BigDecimal.valueOf(10_000L + i, 2))
+                    .setCreatedAt(Instant.now())
+                    .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                    .build());
+        }
+        kafkaAvroDeserializer = new KafkaAvroDeserializer(schemaRegistryClient, configs);
+        specificAvroRecordDeserializer = new SpecificAvroRecordDeserializer(id -> {
+            try {
+                return (Schema) schemaRegistryClient.getSchemaById(id).rawSchema();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Benchmark
+    public void kafkaAvroDeserializer(Blackhole blackhole) {
+        for (byte[] message : messages) {
+            blackhole.consume(kafkaAvroDeserializer.deserialize(TOPIC, message));
+        }
+    }
+
+    @Benchmark
+    public void specificAvroRecordDeserializer(Blackhole blackhole) {
+        for (byte[] message : messages) {
+            blackhole.consume(specificAvroRecordDeserializer.deserialize(TOPIC, message));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.food.ordering.system.benchmark.messaging;
+
+import com.food.ordering.system.kafka.order.avro.converter.UuidAvroConverter;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.ProductV2;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModelV2;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binary encode and decode of a restaurant approval request with the v1 schema (UUID strings, decimal bytes price)
+ * vs the v2 schema (fixed(16) UUIDs, long cents). {@link Size#bytes} reports the encoded size per message.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark package -pl benchmark -am && java -jar benchmark/target/benchmarks.jar AvroSchemaVersionBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvroSchemaVersionBenchmark {
+
+    @Param({"3", "20"})
+    private int productCount;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    private final SpecificDatumWriter<RestaurantApprovalRequestAvroModel> v1Writer =
+            new SpecificDatumWriter<>(RestaurantApprovalRequestAvroModel.class);
+    private final SpecificDatumReader<RestaurantApprovalRequestAvroModel> v1Reader =
+            new SpecificDatumReader<>(RestaurantApprovalRequestAvroModel.class);
+    private final SpecificDatumWriter<RestaurantApprovalRequestAvroModelV2> v2Writer =
+            new SpecificDatumWriter<>(RestaurantApprovalRequestAvroModelV2.class);
+    private final SpecificDatumReader<RestaurantApprovalRequestAvroModelV2> v2Reader =
+            new SpecificDatumReader<>(RestaurantApprovalRequestAvroModelV2.class);
+
+    private RestaurantApprovalRequestAvroModel v1Message;
+    private RestaurantApprovalRequestAvroModelV2 v2Message;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UUID orderId = UUID.randomUUID();
+        UUID restaurantId = UUID.randomUUID();
+        List<Product> products = new ArrayList<>(productCount);
+        List<ProductV2> productsV2 = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            UUID productId = UUID.randomUUID();
+            products.add(Product.newBuilder().setId(productId.toString()).setQuantity(i + 1).build());
+            productsV2.add(ProductV2.newBuilder().setId(UuidAvroConverter.toAvro(productId)).setQuantity(i + 1).build());
+        }
+        Instant createdAt = Instant.now();
+        v1Message = RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(UUID.randomUUID().toString())
+                .setSagaId("")
+                .setRestaurantId(restaurantId.toString())
+                .setOrderId(orderId.toString())
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .setProducts(products)
+                .setPrice(new BigDecimal("123.45"))
+                .setCreatedAt(createdAt)
+                .build();
+        v2Message = RestaurantApprovalRequestAvroModelV2.newBuilder()
+                .setId(UuidAvroConverter.toAvro(UUID.randomUUID()))
+                .setSagaId(null)
+                .setRestaurantId(UuidAvroConverter.toAvro(restaurantId))
+                .setOrderId(UuidAvroConverter.toAvro(orderId))
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .setProducts(productsV2)
+                .setPriceCents(12345L)
+                .setCreatedAt(createdAt)
+                .build();
+    }
+
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel v1RoundTrip(Size size) throws IOException {
+        return roundTrip(v1Writer, v1Reader, v1Message, size);
+    }
+
+    @Benchmark
+    public RestaurantApprovalRequestAvroModelV2 v2RoundTrip(Size size) throws IOException {
+        return roundTrip(v2Writer, v2Reader, v2Message, size);
+    }
+
+    private <T extends SpecificRecordBase> T roundTrip(SpecificDatumWriter<T> writer, SpecificDatumReader<T> reader,
+                                                       T message, Size size) throws IOException {
+        out.reset();
+        encoder = EncoderFactory.get().binaryEncoder(out, encoder);
+        writer.write(message, encoder);
+        encoder.flush();
+        byte[] bytes = out.toByteArray();
+        size.bytes += bytes.length;
+        decoder = DecoderFactory.get().binaryDecoder(bytes, decoder);
+        return reader.read(null, decoder);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+}
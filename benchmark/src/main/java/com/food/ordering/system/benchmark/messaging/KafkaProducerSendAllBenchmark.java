@@ -0,0 +1,91 @@
+package com.food.ordering.system.benchmark.messaging;
+
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.metrics.KafkaProducerMetrics;
+import com.food.ordering.system.kafka.producer.service.KeyedMessage;
+import com.food.ordering.system.kafka.producer.service.impl.KafkaProducerImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer-side cost of publishing one batch of payment requests: one {@code KafkaProducerImpl.send} with a
+ * {@link KafkaMessageHelper} callback per record, as the single-event publishers do, vs one
+ * {@link KafkaMessageHelper#sendAll}, as the order outbox relay publishes a page of payment requests. The records go
+ * to an auto-completing {@link MockProducer}, so only the client-side overhead is measured.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark package -pl benchmark -am && java -jar benchmark/target/benchmarks.jar KafkaProducerSendAllBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(KafkaProducerSendAllBenchmark.BATCH_SIZE)
+public class KafkaProducerSendAllBenchmark {
+
+    static final int BATCH_SIZE = 100;
+    private static final String TOPIC = "payment-request";
+
+    private final KafkaMessageHelper kafkaMessageHelper = new KafkaMessageHelper();
+    private final List<KeyedMessage<String, PaymentRequestAvroModel>> messages = new ArrayList<>(BATCH_SIZE);
+    private MockProducer<String, PaymentRequestAvroModel> mockProducer;
+    private KafkaProducerImpl<String, PaymentRequestAvroModel> kafkaProducer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mockProducer = new MockProducer<>(true, new StringSerializer(), (topic, data) -> new byte[0]) {
+            @Override
+            public void close(Duration timeout) {
+                // KafkaTemplate closes its producer after every send, the real factory hands out a close-safe one.
+            }
+        };
+        kafkaProducer = new KafkaProducerImpl<>(new KafkaTemplate<>(() -> mockProducer),
+                new KafkaProducerMetrics(new SimpleMeterRegistry()), new KafkaProducerConfigData());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String orderId = UUID.randomUUID().toString();
+            messages.add(new KeyedMessage<>(orderId, PaymentRequestAvroModel.newBuilder()
+                    .setId(UUID.randomUUID().toString())
+                    .setSagaId("")
+                    .setCustomerId(UUID.randomUUID().toString())
+                    .setOrderId(orderId)
+                    .setPrice(BigDecimal.valueOf(10_000L + i, 2))
+                    .setCreatedAt(Instant.now())
+                    .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                    .build()));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearHistory() {
+        mockProducer.clear();
+    }
+
+    @Benchmark
+    public void sendOneByOne() {
+        for (KeyedMessage<String, PaymentRequestAvroModel> message : messages) {
+            kafkaProducer.send(TOPIC, message.getKey(), message.getMessage(), kafkaMessageHelper.getKafkaCallBack(
+                    TOPIC, message.getMessage(), message.getKey(), "PaymentRequestAvroModel"));
+        }
+    }
+
+    @Benchmark
+    public void sendAll(Blackhole blackhole) {
+        blackhole.consume(kafkaMessageHelper.sendAll(kafkaProducer, TOPIC, messages, "PaymentRequestAvroModel"));
+    }
+}
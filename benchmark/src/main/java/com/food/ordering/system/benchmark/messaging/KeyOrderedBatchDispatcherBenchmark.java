@@ -0,0 +1,94 @@
+package com.food.ordering.system.benchmark.messaging;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedBatchDispatcher;
+import com.food.ordering.system.kafka.consumer.metrics.KafkaConsumerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Time to handle one poll's worth of records on a single listener thread, sequentially vs fanned out by
+ * {@link KeyOrderedBatchDispatcher}. Each record parks for a fixed time standing in for its database work, and the
+ * batch holds {@code keysPerBatch} distinct order ids, so fewer keys means longer per-key lanes.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark package -pl benchmark -am && java -jar benchmark/target/benchmarks.jar KeyOrderedBatchDispatcherBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KeyOrderedBatchDispatcherBenchmark {
+
+    private static final Acknowledgment NO_OP_ACKNOWLEDGMENT = () -> {
+    };
+
+    @Param({"false", "true"})
+    private boolean parallelDispatch;
+
+    @Param({"100"})
+    private int batchSize;
+
+    @Param({"10", "100"})
+    private int keysPerBatch;
+
+    @Param({"200"})
+    private long recordLatencyMicros;
+
+    @Param({"12"})
+    private int dispatchPoolSize;
+
+    private ThreadPoolTaskExecutor kafkaDispatchExecutor;
+    private KeyOrderedBatchDispatcher keyOrderedBatchDispatcher;
+    private List<UUID> messages;
+    private List<String> keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setParallelDispatchEnabled(parallelDispatch);
+        kafkaConsumerConfigData.setParallelDispatchPoolSize(dispatchPoolSize);
+
+        kafkaDispatchExecutor = new ThreadPoolTaskExecutor();
+        kafkaDispatchExecutor.setCorePoolSize(dispatchPoolSize);
+        kafkaDispatchExecutor.setMaxPoolSize(dispatchPoolSize);
+        kafkaDispatchExecutor.setQueueCapacity(dispatchPoolSize);
+        kafkaDispatchExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        kafkaDispatchExecutor.initialize();
+        keyOrderedBatchDispatcher = new KeyOrderedBatchDispatcher(kafkaConsumerConfigData, kafkaDispatchExecutor,
+                new KafkaConsumerMetrics(new SimpleMeterRegistry()));
+
+        List<UUID> orderIds = new ArrayList<>(keysPerBatch);
+        for (int i = 0; i < keysPerBatch; i++) {
+            orderIds.add(UUID.randomUUID());
+        }
+        messages = new ArrayList<>(batchSize);
+        keys = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            UUID orderId = orderIds.get(i % keysPerBatch);
+            messages.add(orderId);
+            keys.add(orderId.toString());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        kafkaDispatchExecutor.shutdown();
+    }
+
+    @Benchmark
+    public void dispatchBatch() {
+        keyOrderedBatchDispatcher.dispatch(messages, keys, NO_OP_ACKNOWLEDGMENT, message ->
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(recordLatencyMicros)));
+    }
+}
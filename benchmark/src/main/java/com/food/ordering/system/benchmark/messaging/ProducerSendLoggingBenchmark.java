@@ -0,0 +1,66 @@
+package com.food.ordering.system.benchmark.messaging;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.producer.logging.RateSampler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-send logging cost in {@code KafkaProducerImpl}: formatting the whole Avro message for every record, as the
+ * producer used to, vs the {@link RateSampler} gate that only formats a key=value line for the sampled sends.
+ * Only the message formatting is measured, appender I/O comes on top of it in a running service.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark package -pl benchmark -am && java -jar benchmark/target/benchmarks.jar ProducerSendLoggingBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProducerSendLoggingBenchmark {
+
+    private static final String TOPIC = "payment-request";
+
+    @Param({"10"})
+    private int samplesPerSecond;
+
+    private PaymentRequestAvroModel message;
+    private RateSampler rateSampler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        message = PaymentRequestAvroModel.newBuilder()
+                .setId(UUID.randomUUID().toString())
+                .setSagaId("")
+                .setCustomerId(UUID.randomUUID().toString())
+                .setOrderId(UUID.randomUUID().toString())
+                .setPrice(BigDecimal.valueOf(10_000L, 2))
+                .setCreatedAt(Instant.now())
+                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+        rateSampler = new RateSampler(samplesPerSecond);
+    }
+
+    @Benchmark
+    public void perMessage(Blackhole blackhole) {
+        blackhole.consume(MessageFormatter.format("Sending message {} to topic {}", message, TOPIC).getMessage());
+    }
+
+    @Benchmark
+    public void sampled(Blackhole blackhole) {
+        long suppressed = rateSampler.tryAcquire();
+        if (suppressed >= 0) {
+            blackhole.consume(MessageFormatter.arrayFormat(
+                    "event=kafka_send_succeeded topic={} key={} suppressed={}",
+                    new Object[]{TOPIC, message.getOrderId(), suppressed}).getMessage());
+        }
+    }
+}
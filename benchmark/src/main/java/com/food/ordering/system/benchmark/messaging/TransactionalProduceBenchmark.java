@@ -0,0 +1,124 @@
+package com.food.ordering.system.benchmark.messaging;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Responses produced per listener batch in the current at-least-once mode, where the sends are flushed and the
+ * batch offsets committed by the consumer, vs {@code transactions-enabled: true}, where the sends and the batch
+ * offsets go into one transaction. Offsets are committed on the benchmark topic itself, standing in for the
+ * consumed request topic. Needs the local cluster of {@code infraestructure/docker-compose} and creates its own topic.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark package -pl benchmark -am && java -jar benchmark/target/benchmarks.jar TransactionalProduceBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@OperationsPerInvocation(TransactionalProduceBenchmark.BATCH_SIZE)
+public class TransactionalProduceBenchmark {
+
+    static final int BATCH_SIZE = 100;
+    private static final String TOPIC = "transactional-produce-benchmark";
+    private static final TopicPartition CONSUMED_PARTITION = new TopicPartition(TOPIC, 0);
+    private static final ConsumerGroupMetadata GROUP_METADATA =
+            new ConsumerGroupMetadata("transactional-produce-benchmark");
+
+    @Param({"false", "true"})
+    private boolean transactional;
+
+    @Param({"localhost:19092,localhost:29092,localhost:39092"})
+    private String bootstrapServers;
+
+    @Param({"512"})
+    private int valueBytes;
+
+    private KafkaProducer<String, byte[]> producer;
+    private KafkaConsumer<String, byte[]> consumer;
+    private byte[] value;
+    private long consumedOffset;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ExecutionException, InterruptedException {
+        try (Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+            if (!admin.listTopics().names().get().contains(TOPIC)) {
+                admin.createTopics(Set.of(new NewTopic(TOPIC, 3, (short) 3))).all().get();
+            }
+        }
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        if (transactional) {
+            props.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, "transactional-produce-benchmark-" + UUID.randomUUID());
+        }
+        producer = new KafkaProducer<>(props);
+        if (transactional) {
+            producer.initTransactions();
+        } else {
+            consumer = new KafkaConsumer<>(Map.of(
+                    ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                    ConsumerConfig.GROUP_ID_CONFIG, GROUP_METADATA.groupId(),
+                    ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                    ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class,
+                    ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false));
+            consumer.assign(List.of(CONSUMED_PARTITION));
+        }
+        value = new byte[valueBytes];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        producer.close();
+        if (consumer != null) {
+            consumer.close();
+        }
+    }
+
+    @Benchmark
+    public void produceBatch() {
+        if (transactional) {
+            producer.beginTransaction();
+        }
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            producer.send(new ProducerRecord<>(TOPIC, UUID.randomUUID().toString(), value));
+        }
+        consumedOffset += BATCH_SIZE;
+        Map<TopicPartition, OffsetAndMetadata> offsets =
+                Map.of(CONSUMED_PARTITION, new OffsetAndMetadata(consumedOffset));
+        if (transactional) {
+            producer.sendOffsetsToTransaction(offsets, GROUP_METADATA);
+            producer.commitTransaction();
+        } else {
+            producer.flush();
+            consumer.commitSync(offsets);
+        }
+    }
+}
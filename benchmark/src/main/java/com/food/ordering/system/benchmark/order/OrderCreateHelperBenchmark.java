@@ -0,0 +1,257 @@
+package com.food.ordering.system.benchmark.order;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.idempotency.model.OrderIdempotencyKey;
+import com.food.ordering.system.order.service.domain.ports.OrderCreateHelper;
+import com.food.ordering.system.order.service.domain.ports.OrderIdempotencyHelper;
+import com.food.ordering.system.order.service.domain.ports.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyKeyRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Create-order latency with sequential vs parallel customer/restaurant lookups. Repository calls are stubbed
+ * with a fixed park time standing in for one database round trip, and the benchmark runs with many client
+ * threads so the bounded lookup executor is exercised under contention. The stubs do not model a connection pool;
+ * that the lookups run before the order transaction, holding one connection at a time, is covered by
+ * {@code OrderCreateConnectionPoolTest}.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark package -pl benchmark -am && java -jar benchmark/target/benchmarks.jar OrderCreateHelperBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(32)
+public class OrderCreateHelperBenchmark {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private static final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+
+    @Param({"false", "true"})
+    private boolean parallelLookups;
+
+    @Param({"500"})
+    private long lookupLatencyMicros;
+
+    @Param({"16"})
+    private int lookupExecutorPoolSize;
+
+    private ThreadPoolTaskExecutor orderLookupExecutor;
+    private OrderCreateHelper orderCreateHelper;
+    private CreateOrderCommand createOrderCommand;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setParallelLookupsEnabled(parallelLookups);
+        orderServiceConfigData.setIdempotencyKeyCacheMaxSize(100000);
+
+        orderLookupExecutor = new ThreadPoolTaskExecutor();
+        orderLookupExecutor.setCorePoolSize(lookupExecutorPoolSize);
+        orderLookupExecutor.setMaxPoolSize(lookupExecutorPoolSize);
+        orderLookupExecutor.setQueueCapacity(0);
+        orderLookupExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        orderLookupExecutor.initialize();
+
+        orderCreateHelper = new OrderCreateHelper(new OrderDomainServiceImpl(),
+                new StubOrderRepository(),
+                new StubCustomerRepository(),
+                new StubRestaurantRepository(),
+                new OrderDataMapper(),
+                new OrderOutboxHelper(new StubOrderOutboxRepository()),
+                new OrderIdempotencyHelper(new StubOrderIdempotencyKeyRepository(), orderServiceConfigData,
+                        new OrderDataMapper()),
+                orderServiceConfigData,
+                orderLookupExecutor);
+
+        createOrderCommand = CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .price(new BigDecimal("200.00"))
+                .address(OrderAddress.builder().street("street_1").postalCode("1000AB").city("Paris").build())
+                .items(List.of(OrderItem.builder()
+                                .productId(PRODUCT_ID)
+                                .quantity(1)
+                                .price(new BigDecimal("50.00"))
+                                .subTotal(new BigDecimal("50.00"))
+                                .build(),
+                        OrderItem.builder()
+                                .productId(PRODUCT_ID)
+                                .quantity(3)
+                                .price(new BigDecimal("50.00"))
+                                .subTotal(new BigDecimal("150.00"))
+                                .build()))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        orderLookupExecutor.shutdown();
+    }
+
+    @Benchmark
+    public OrderCreatedEvent createOrder() {
+        return orderCreateHelper.createOrder(createOrderCommand,
+                orderCreateHelper.checkCustomerAndRestaurant(createOrderCommand));
+    }
+
+    private void roundTrip() {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(lookupLatencyMicros));
+    }
+
+    private class StubCustomerRepository implements CustomerRepository {
+        @Override
+        public Optional<Customer> findById(UUID customerId) {
+            roundTrip();
+            Customer customer = new Customer();
+            customer.setId(new CustomerId(customerId));
+            return Optional.of(customer);
+        }
+
+        @Override
+        public List<Customer> findByIds(List<UUID> customerIds) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class StubRestaurantRepository implements RestaurantRepository {
+        @Override
+        public Optional<Restaurant> findRestaurant(Restaurant restaurant) {
+            roundTrip();
+            return Optional.of(Restaurant.Builder.builder()
+                    .id(new RestaurantId(RESTAURANT_ID))
+                    .products(List.of(new Product(new ProductId(PRODUCT_ID), "product-1",
+                            new Money(new BigDecimal("50.00")))))
+                    .isActive(true)
+                    .build());
+        }
+
+        @Override
+        public List<Restaurant> findRestaurants(List<Restaurant> restaurants) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class StubOrderRepository implements OrderRepository {
+        @Override
+        public Order save(Order order) {
+            return order;
+        }
+
+        @Override
+        public List<Order> saveAll(List<Order> orders) {
+            return orders;
+        }
+
+        @Override
+        public boolean updateStatus(Order order, OrderStatus expectedStatus) {
+            return true;
+        }
+
+        @Override
+        public Set<OrderId> updateStatuses(List<Order> orders, Map<OrderId, OrderStatus> expectedStatuses) {
+            return orders.stream().map(Order::getId).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Optional<Order> findById(OrderId orderId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Order> findAllById(List<OrderId> orderIds) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<Order> findByTrackingId(TrackingId trackingId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<TrackOrderResponse> findStatusByTrackingId(TrackingId trackingId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<TrackOrderResponse> findAllStatusesByTrackingId(List<TrackingId> trackingIds) {
+            return List.of();
+        }
+    }
+
+    private static class StubOrderOutboxRepository implements OrderOutboxRepository {
+        @Override
+        public OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage) {
+            return orderOutboxMessage;
+        }
+
+        @Override
+        public List<OrderOutboxMessage> saveAll(List<OrderOutboxMessage> orderOutboxMessages) {
+            return orderOutboxMessages;
+        }
+
+        @Override
+        public List<OrderOutboxMessage> findPendingAndLock(int batchSize) {
+            return List.of();
+        }
+
+        @Override
+        public void deleteByIds(List<UUID> ids) {
+        }
+    }
+
+    private static class StubOrderIdempotencyKeyRepository implements OrderIdempotencyKeyRepository {
+        @Override
+        public OrderIdempotencyKey save(OrderIdempotencyKey orderIdempotencyKey) {
+            return orderIdempotencyKey;
+        }
+
+        @Override
+        public Optional<OrderIdempotencyKey> findByIdempotencyKey(String idempotencyKey) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void deleteCreatedBefore(ZonedDateTime createdAt) {
+        }
+    }
+}
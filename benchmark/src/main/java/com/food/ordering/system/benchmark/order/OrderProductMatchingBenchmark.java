@@ -0,0 +1,80 @@
+package com.food.ordering.system.benchmark.order;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching order items against the restaurant menu in order-domain-core: the ProductId index built by
+ * {@link Restaurant} (build cost included) vs the nested scan OrderDomainServiceImpl used before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderProductMatchingBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int menuSize;
+
+    @Param({"10", "100"})
+    private int itemCount;
+
+    private RestaurantId restaurantId;
+    private List<Product> menu;
+    private List<Product> itemProducts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        restaurantId = new RestaurantId(UUID.randomUUID());
+        menu = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            menu.add(new Product(new ProductId(UUID.randomUUID()), "product-" + i,
+                    new Money(new BigDecimal("10.00"))));
+        }
+        itemProducts = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            itemProducts.add(new Product(menu.get((int) ((long) i * menuSize / itemCount)).getId()));
+        }
+    }
+
+    @Benchmark
+    public void productIndex(Blackhole blackhole) {
+        Restaurant restaurant = Restaurant.Builder.builder()
+                .id(restaurantId)
+                .products(menu)
+                .isActive(true)
+                .build();
+        Map<ProductId, Product> productIndex = restaurant.getProductIndex();
+        itemProducts.forEach(itemProduct -> {
+            Product restaurantProduct = productIndex.get(itemProduct.getId());
+            if (restaurantProduct != null) {
+                itemProduct.updateWithConfirmNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
+            }
+        });
+        blackhole.consume(itemProducts);
+    }
+
+    @Benchmark
+    public void nestedScan(Blackhole blackhole) {
+        itemProducts.forEach(itemProduct -> menu.forEach(restaurantProduct -> {
+            if (itemProduct.equals(restaurantProduct)) {
+                itemProduct.updateWithConfirmNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
+            }
+        }));
+        blackhole.consume(itemProducts);
+    }
+}
@@ -0,0 +1,89 @@
+package com.food.ordering.system.benchmark.restaurant;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderDetail;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
+import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching approval request products against the stored restaurant products in restaurant-domain-core: the
+ * ProductId index built by {@link Restaurant} (build cost included) vs the nested scan
+ * RestaurantApprovalRequestHelper used before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestaurantProductMatchingBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int menuSize;
+
+    @Param({"10", "100"})
+    private int itemCount;
+
+    private RestaurantId restaurantId;
+    private List<Product> menu;
+    private List<Product> requestProducts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        restaurantId = new RestaurantId(UUID.randomUUID());
+        menu = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            menu.add(Product.Builder.newBuilder()
+                    .productId(new ProductId(UUID.randomUUID()))
+                    .name("product-" + i)
+                    .price(new Money(new BigDecimal("10.00")))
+                    .available(true)
+                    .build());
+        }
+        requestProducts = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            requestProducts.add(Product.Builder.newBuilder()
+                    .productId(menu.get((int) ((long) i * menuSize / itemCount)).getId())
+                    .quantity(1)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void productIndex(Blackhole blackhole) {
+        Restaurant restaurant = Restaurant.Builder.newBuilder()
+                .restaurantId(restaurantId)
+                .orderDetail(OrderDetail.Builder.newBuilder().products(menu).build())
+                .active(true)
+                .build();
+        Map<ProductId, Product> productIndex = restaurant.getProductIndex();
+        requestProducts.forEach(product -> {
+            Product p = productIndex.get(product.getId());
+            if (p != null) {
+                product.updateWithConfirmedNamePriceAndAvailability(p.getName(), p.getPrice(), p.isAvailable());
+            }
+        });
+        blackhole.consume(requestProducts);
+    }
+
+    @Benchmark
+    public void nestedScan(Blackhole blackhole) {
+        requestProducts.forEach(product -> menu.forEach(p -> {
+            if (p.getId().equals(product.getId())) {
+                product.updateWithConfirmedNamePriceAndAvailability(p.getName(), p.getPrice(), p.isAvailable());
+            }
+        }));
+        blackhole.consume(requestProducts);
+    }
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.domain.event.publisher;
+
+import com.food.ordering.system.domain.event.DomainEvent;
+
+import java.util.List;
+import java.util.Set;
+
+public interface BatchDomainEventPublisher<T extends DomainEvent> extends DomainEventPublisher<T> {
+
+    /**
+     * Publishes all events and waits until each one was acknowledged or failed.
+     *
+     * @return the indexes of the events that could not be published
+     */
+    Set<Integer> publishAll(List<T> domainEvents);
+}
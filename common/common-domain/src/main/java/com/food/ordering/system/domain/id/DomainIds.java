@@ -0,0 +1,24 @@
+package com.food.ordering.system.domain.id;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Id source for domain entities. Defaults to {@link UuidV7Generator}; another {@link IdGenerator} can be set at
+ * startup, e.g. {@code UUID::randomUUID} when time-ordered ids are not wanted.
+ */
+public final class DomainIds {
+
+    private static volatile IdGenerator idGenerator = new UuidV7Generator();
+
+    private DomainIds() {
+    }
+
+    public static UUID newId() {
+        return idGenerator.generateId();
+    }
+
+    public static void setIdGenerator(IdGenerator idGenerator) {
+        DomainIds.idGenerator = Objects.requireNonNull(idGenerator, "idGenerator");
+    }
+}
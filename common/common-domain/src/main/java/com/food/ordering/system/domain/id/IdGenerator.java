@@ -0,0 +1,8 @@
+package com.food.ordering.system.domain.id;
+
+import java.util.UUID;
+
+public interface IdGenerator {
+
+    UUID generateId();
+}
@@ -0,0 +1,57 @@
+package com.food.ordering.system.domain.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48 bits of Unix epoch milliseconds, a 12 bit counter in {@code rand_a} and 62
+ * random bits in {@code rand_b}. The timestamp and counter are kept per thread, so ids from one thread are
+ * strictly increasing, and ids from all threads sort by creation millisecond. No shared
+ * {@link java.security.SecureRandom} is used.
+ * <p>
+ * The counter starts at a random value in the lower half of its range each millisecond. When it runs out, the
+ * timestamp moves forward by one millisecond. A clock that goes backwards keeps the last timestamp.
+ */
+public class UuidV7Generator implements IdGenerator {
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final int COUNTER_MASK = 0xFFF;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+    private final LongSupplier clock;
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generateId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        State current = state.get();
+        long now = clock.getAsLong();
+        if (now > current.lastMillis) {
+            current.lastMillis = now;
+            current.counter = random.nextInt(COUNTER_MASK >>> 1);
+        } else if (current.counter == COUNTER_MASK) {
+            current.lastMillis++;
+            current.counter = random.nextInt(COUNTER_MASK >>> 1);
+        } else {
+            current.counter++;
+        }
+        long mostSigBits = (current.lastMillis << 16) | VERSION | current.counter;
+        long leastSigBits = VARIANT | (random.nextLong() & RAND_B_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static final class State {
+        private long lastMillis = -1L;
+        private int counter;
+    }
+}
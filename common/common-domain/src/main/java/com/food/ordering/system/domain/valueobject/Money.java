@@ -2,43 +2,60 @@ package com.food.ordering.system.domain.valueobject;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
 
+/**
+ * Amount held as a scaled long of cents, rounded half-even to {@link #SCALE} decimals on the way in. Conversion and
+ * arithmetic throw {@link ArithmeticException} on overflow, which each service turns into its domain exception.
+ * {@link BigDecimal} is only used to convert at the persistence and messaging boundaries.
+ */
 public class Money {
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
-    private final BigDecimal amount;
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+    private final long cents;
 
     public Money(BigDecimal amount) {
-        this.amount = amount;
+        this(toCents(amount));
+    }
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0L ? ZERO : new Money(cents);
     }
 
     public boolean isGreaterThanZero(){
-        return this.amount != null && this.amount.compareTo(BigDecimal.ZERO) > 0;
+        return this.cents > 0L;
     }
 
     public boolean isGreaterThan(Money money){
-        return this.amount != null && this.amount.compareTo(money.getAmount()) > 0;
+        return this.cents > money.cents;
     }
 
     public Money add (Money money){
-        return new Money(setScale(this.amount.add(money.getAmount())));
+        return new Money(Math.addExact(this.cents, money.cents));
     }
 
     public Money subtract(Money money) {
-        return new Money(setScale(this.amount.subtract(money.getAmount())));
+        return new Money(Math.subtractExact(this.cents, money.cents));
     }
 
     public Money multiply (int multiplier){
-        return new Money(setScale(this.amount.multiply(BigDecimal.valueOf(multiplier))));
+        return new Money(Math.multiplyExact(this.cents, (long) multiplier));
     }
 
-    private BigDecimal setScale(BigDecimal in){
-        return in.setScale(2, RoundingMode.HALF_EVEN);
+    public long getCents() {
+        return cents;
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
     }
 
     @Override
@@ -46,11 +63,11 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount);
+        return cents == money.cents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Long.hashCode(cents);
     }
 }
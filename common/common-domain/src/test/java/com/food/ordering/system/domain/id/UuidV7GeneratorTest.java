@@ -0,0 +1,97 @@
+package com.food.ordering.system.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final int COUNTER_VALUES = 4096;
+
+    @Test
+    public void testVersionVariantAndTimestamp() {
+        UUID uuid = new UuidV7Generator(() -> NOW).generateId();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(NOW, timestamp(uuid));
+    }
+
+    @Test
+    public void testIdsOfOneThreadAreStrictlyIncreasing() throws Exception {
+        UuidV7Generator uuidV7Generator = new UuidV7Generator();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Callable<List<UUID>> generateIds = () -> {
+                    List<UUID> ids = new ArrayList<>();
+                    for (int j = 0; j < 20_000; j++) {
+                        ids.add(uuidV7Generator.generateId());
+                    }
+                    return ids;
+                };
+                futures.add(executorService.submit(generateIds));
+            }
+            for (Future<List<UUID>> future : futures) {
+                assertStrictlyIncreasing(future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCounterRolloverMovesToNextMillisecond() {
+        UuidV7Generator uuidV7Generator = new UuidV7Generator(() -> NOW);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i <= COUNTER_VALUES; i++) {
+            ids.add(uuidV7Generator.generateId());
+        }
+
+        assertStrictlyIncreasing(ids);
+        assertEquals(NOW, timestamp(ids.get(0)));
+        assertEquals(NOW + 1, timestamp(ids.get(ids.size() - 1)));
+        assertTrue(counter(ids.get(0)) < COUNTER_VALUES / 2);
+    }
+
+    @Test
+    public void testClockGoingBackwardsKeepsLastTimestamp() {
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7Generator uuidV7Generator = new UuidV7Generator(clock::get);
+        UUID first = uuidV7Generator.generateId();
+
+        clock.set(NOW - 1000L);
+        UUID second = uuidV7Generator.generateId();
+
+        assertEquals(NOW, timestamp(second));
+        assertEquals(counter(first) + 1, counter(second));
+        assertStrictlyIncreasing(List.of(first, second));
+    }
+
+    private static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static int counter(UUID uuid) {
+        return (int) (uuid.getMostSignificantBits() & 0xFFF);
+    }
+
+    // UUID.compareTo compares signed, v7 ids order by their unsigned most significant bits.
+    private static void assertStrictlyIncreasing(List<UUID> ids) {
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(Long.compareUnsigned(ids.get(i - 1).getMostSignificantBits(),
+                    ids.get(i).getMostSignificantBits()) < 0, "id " + i + " does not follow id " + (i - 1));
+        }
+    }
+}
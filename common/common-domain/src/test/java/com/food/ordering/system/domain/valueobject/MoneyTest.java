@@ -0,0 +1,49 @@
+package com.food.ordering.system.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    public void testScaleIsNormalised() {
+        Money money = new Money(new BigDecimal("10.0"));
+
+        assertEquals(new Money(new BigDecimal("10.00")), money);
+        assertEquals(new Money(new BigDecimal("10")).hashCode(), money.hashCode());
+        assertEquals(1000L, money.getCents());
+        assertEquals(new BigDecimal("10.00"), money.getAmount());
+    }
+
+    @Test
+    public void testAmountIsRoundedHalfEven() {
+        assertEquals(12L, new Money(new BigDecimal("0.125")).getCents());
+        assertEquals(14L, new Money(new BigDecimal("0.135")).getCents());
+        assertEquals(13L, new Money(new BigDecimal("0.1251")).getCents());
+        assertEquals(-12L, new Money(new BigDecimal("-0.125")).getCents());
+        assertEquals(Money.ZERO, new Money(new BigDecimal("0.005")));
+    }
+
+    @Test
+    public void testAmountOutOfRange() {
+        BigDecimal maxAmount = BigDecimal.valueOf(Long.MAX_VALUE, Money.SCALE);
+
+        assertEquals(Long.MAX_VALUE, new Money(maxAmount).getCents());
+        assertThrows(ArithmeticException.class, () -> new Money(maxAmount.add(new BigDecimal("0.01"))));
+        assertThrows(ArithmeticException.class, () -> new Money(new BigDecimal("1E20")));
+    }
+
+    @Test
+    public void testArithmeticOverflow() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        Money min = Money.ofCents(Long.MIN_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.add(Money.ofCents(1L)));
+        assertThrows(ArithmeticException.class, () -> min.subtract(Money.ofCents(1L)));
+        assertThrows(ArithmeticException.class, () -> max.multiply(2));
+        assertEquals(Money.ofCents(Long.MAX_VALUE - 1L), max.subtract(Money.ofCents(1L)));
+    }
+}
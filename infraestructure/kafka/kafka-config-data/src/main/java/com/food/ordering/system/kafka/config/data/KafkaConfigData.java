@@ -4,6 +4,9 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "kafka-config")
@@ -11,6 +14,10 @@ public class KafkaConfigData {
     private String bootstrapServers;
     private String schemaRegistryUrlKey;
     private String schemaRegistryUrl;
+    // Passed as is to the Avro serializers and deserializers, e.g. basic.auth.* and schema.registry.ssl.*.
+    private Map<String, String> schemaRegistryProperties = new HashMap<>();
+    private String valueSubjectNameStrategyKey;
+    private String valueSubjectNameStrategy;
     private Integer numOfPartitions;
     private Short replicationFactor;
 }
@@ -5,6 +5,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "kafka-consumer-config")
@@ -12,6 +14,7 @@ public class KafkaConsumerConfigData {
     private String keyDeserializer;
     private String valueDeserializer;
     private String autoOffsetReset;
+    private String isolationLevel = "read_committed";
     private String specificAvroReaderKey;
     private String specificAvroReader;
     private Boolean batchListener;
@@ -21,7 +24,27 @@ public class KafkaConsumerConfigData {
     private Integer heartbeatIntervalMs;
     private Integer maxPollIntervalMs;
     private Long pollTimeoutMs;
+    private Long nackSleepMs = 1000L;
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private Boolean parallelDispatchEnabled = false;
+    private Integer parallelDispatchPoolSize = 12;
+    private Boolean retryTopicsEnabled = false;
+    private List<Long> retryTopicDelaysMs = List.of(1000L, 10000L, 60000L);
+    private String retryTopicSuffix = "-retry";
+    private String deadLetterTopicSuffix = "-dlt";
+    private String retryConsumerGroupId;
+    private Integer deadLetterReplayMaxRecords = 1000;
+    private Integer deadLetterReplayRecordsPerSecond = 50;
+    private Boolean transactionsEnabled = false;
+    private Integer transactionMaxAttempts = 10;
+    private Boolean adaptiveTuningEnabled = false;
+    private Long adaptiveTuningIntervalMs = 60000L;
+    private Integer adaptiveMinPollRecords = 50;
+    private Integer adaptiveMaxPollRecords = 2000;
+    private Integer adaptiveMinConcurrency = 1;
+    private Integer adaptiveMaxConcurrency = 3;
+    private Long adaptiveLagHighWatermark = 5000L;
+    private Long adaptiveLagLowWatermark = 100L;
 }
@@ -4,10 +4,16 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "kafka-producer-config")
 public class KafkaProducerConfigData {
+    public static final String DEFAULT_PROFILE = "default";
+    public static final String INTERACTIVE_PROFILE = "interactive";
+
     private String keySerializerClass;
     private String valueSerializerClass;
     private String compressionType;
@@ -17,4 +23,20 @@ public class KafkaProducerConfigData {
     private Integer lingerMs;
     private Integer requestTimeoutMs;
     private Integer retryCount;
+    private Integer avroSchemaVersion = 1;
+    private Integer sendLogSamplesPerSecond = 10;
+    private Integer maxInFlightSends = 10000;
+    private String transactionalIdPrefix;
+    private Map<String, ProducerProfile> profiles = new HashMap<>();
+
+    /**
+     * Batching settings of one named producer profile. Settings left out fall back to the ones above.
+     */
+    @Data
+    public static class ProducerProfile {
+        private Integer batchSize;
+        private Integer batchSizeBoostFactor;
+        private Integer lingerMs;
+        private String compressionType;
+    }
 }
\ No newline at end of file
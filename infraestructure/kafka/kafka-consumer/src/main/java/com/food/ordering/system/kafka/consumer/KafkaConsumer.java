@@ -1,9 +1,15 @@
 package com.food.ordering.system.kafka.consumer;
 
 import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.kafka.support.Acknowledgment;
 
 import java.util.List;
 
 public interface KafkaConsumer<T extends SpecificRecordBase> {
-    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets);
+    /**
+     * Containers run with manual acknowledgement. Implementations acknowledge the batch once every record is
+     * processed, or nack it at the first failed index so that only the records from there on are redelivered.
+     */
+    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets,
+                 Acknowledgment acknowledgment);
 }
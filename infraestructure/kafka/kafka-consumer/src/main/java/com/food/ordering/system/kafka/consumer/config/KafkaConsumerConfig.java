@@ -2,28 +2,52 @@ package com.food.ordering.system.kafka.consumer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.metrics.KafkaConsumerMetrics;
+import com.food.ordering.system.kafka.consumer.metrics.KafkaConsumerMetricsInterceptor;
+import com.food.ordering.system.kafka.consumer.metrics.KafkaConsumerMetricsRebalanceListener;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ContainerCustomizer;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class KafkaConsumerConfig <K extends Serializable, V extends SpecificRecordBase> {
     private final KafkaConfigData kafkaConfigData;
     private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final ObjectProvider<DefaultErrorHandler> kafkaRetryErrorHandler;
+    private final ObjectProvider<ContainerCustomizer<K, V, ConcurrentMessageListenerContainer<K, V>>>
+            kafkaTransactionContainerCustomizer;
+    private final KafkaConsumerMetrics kafkaConsumerMetrics;
 
-    public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData) {
+    public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData,
+                               @Qualifier("kafkaRetryErrorHandler")
+                               ObjectProvider<DefaultErrorHandler> kafkaRetryErrorHandler,
+                               @Qualifier("kafkaTransactionContainerCustomizer")
+                               ObjectProvider<ContainerCustomizer<K, V, ConcurrentMessageListenerContainer<K, V>>>
+                                       kafkaTransactionContainerCustomizer,
+                               KafkaConsumerMetrics kafkaConsumerMetrics) {
         this.kafkaConfigData = kafkaConfigData;
         this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.kafkaRetryErrorHandler = kafkaRetryErrorHandler;
+        this.kafkaTransactionContainerCustomizer = kafkaTransactionContainerCustomizer;
+        this.kafkaConsumerMetrics = kafkaConsumerMetrics;
     }
 
     @Bean
@@ -31,9 +55,16 @@ public class KafkaConsumerConfig <K extends Serializable, V extends SpecificReco
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getKeyDeserializer());
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getValueDeserializer());
+        // Undeserializable values reach the listener as KafkaNull instead of failing the whole poll.
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, kafkaConsumerConfigData.getValueDeserializer());
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, kafkaConsumerConfigData.getAutoOffsetReset());
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, kafkaConsumerConfigData.getIsolationLevel());
         props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+        props.putAll(kafkaConfigData.getSchemaRegistryProperties());
+        if (kafkaConfigData.getValueSubjectNameStrategy() != null) {
+            props.put(kafkaConfigData.getValueSubjectNameStrategyKey(), kafkaConfigData.getValueSubjectNameStrategy());
+        }
         props.put(kafkaConsumerConfigData.getSpecificAvroReaderKey(), kafkaConsumerConfigData.getSpecificAvroReader());
         props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, kafkaConsumerConfigData.getSessionTimeoutMs());
         props.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, kafkaConsumerConfigData.getHeartbeatIntervalMs());
@@ -58,7 +89,27 @@ public class KafkaConsumerConfig <K extends Serializable, V extends SpecificReco
         factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
         factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
         factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
+        // Listeners acknowledge or nack each batch themselves through KafkaConsumer.receive.
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        kafkaRetryErrorHandler.ifAvailable(factory::setCommonErrorHandler);
+        kafkaTransactionContainerCustomizer.ifAvailable(factory::setContainerCustomizer);
+        factory.setBatchInterceptor(new KafkaConsumerMetricsInterceptor<>(kafkaConsumerMetrics));
+        factory.getContainerProperties().setConsumerRebalanceListener(
+                new KafkaConsumerMetricsRebalanceListener(kafkaConsumerMetrics));
         return factory;
     }
 
+    // Shared by all listener containers; saturation runs the lane on the listener thread itself.
+    @Bean
+    public ThreadPoolTaskExecutor kafkaDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(kafkaConsumerConfigData.getParallelDispatchPoolSize());
+        executor.setMaxPoolSize(kafkaConsumerConfigData.getParallelDispatchPoolSize());
+        executor.setQueueCapacity(kafkaConsumerConfigData.getParallelDispatchPoolSize() *
+                kafkaConsumerConfigData.getConcurrencyLevel());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("kafka-dispatch-");
+        return executor;
+    }
+
 }
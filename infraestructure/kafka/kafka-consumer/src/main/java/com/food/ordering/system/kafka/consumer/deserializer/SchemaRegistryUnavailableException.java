@@ -0,0 +1,18 @@
+package com.food.ordering.system.kafka.consumer.deserializer;
+
+import org.apache.kafka.common.errors.RetriableException;
+
+/**
+ * No schema registry url answered a schema lookup. Unlike a malformed record, a delivery after the registry is
+ * back can succeed.
+ */
+public class SchemaRegistryUnavailableException extends RetriableException {
+
+    public SchemaRegistryUnavailableException(String message) {
+        super(message);
+    }
+
+    public SchemaRegistryUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
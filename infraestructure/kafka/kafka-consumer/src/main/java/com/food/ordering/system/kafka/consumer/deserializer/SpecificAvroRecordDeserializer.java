@@ -0,0 +1,154 @@
+package com.food.ordering.system.kafka.consumer.deserializer;
+
+import com.food.ordering.system.kafka.schema.resolver.LocalSchemaRegistry;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Schema registry wire format deserializer for the generated records, tuned for batch polling:
+ * <ul>
+ *     <li>each consumer thread keeps one {@link BinaryDecoder} and re-points it at every message;</li>
+ *     <li>writer schemas are fetched once per id, and readers are shared by schema fingerprint, so ids that
+ *     resolve to the same schema reuse the same resolving reader;</li>
+ *     <li>each thread remembers the last id and reader, so a batch of one message type skips the map lookups.</li>
+ * </ul>
+ * Record instances are not reused because batch listeners hold every record of a poll at once.
+ * Writer schemas come from {@link LocalSchemaRegistry} for {@code local://} urls and from a
+ * {@link CachedSchemaRegistryClient} otherwise, configured from the consumer properties like the Confluent
+ * deserializer. A registry that cannot be reached fails the record with a {@link SchemaRegistryUnavailableException},
+ * which the retry topics treat as retryable.
+ */
+public class SpecificAvroRecordDeserializer implements Deserializer<SpecificRecordBase> {
+
+    private static final byte MAGIC_BYTE = 0x0;
+    private static final int HEADER_LENGTH = 5;
+    private static final int IDENTITY_MAP_CAPACITY = 1000;
+
+    private final Map<Integer, SpecificDatumReader<SpecificRecordBase>> readersById = new ConcurrentHashMap<>();
+    private final Map<Long, SpecificDatumReader<SpecificRecordBase>> readersByFingerprint = new ConcurrentHashMap<>();
+    private final ThreadLocal<DecodeState> decodeState = ThreadLocal.withInitial(DecodeState::new);
+    private IntFunction<Schema> writerSchemaLookup;
+
+    public SpecificAvroRecordDeserializer() {
+    }
+
+    public SpecificAvroRecordDeserializer(IntFunction<Schema> writerSchemaLookup) {
+        this.writerSchemaLookup = writerSchemaLookup;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (writerSchemaLookup != null) {
+            return;
+        }
+        String schemaRegistryUrl = (String) configs.get(LocalSchemaRegistry.SCHEMA_REGISTRY_URL_CONFIG);
+        writerSchemaLookup = LocalSchemaRegistry.isLocalUrl(schemaRegistryUrl) ?
+                LocalSchemaRegistry.forUrl(schemaRegistryUrl)::getSchema :
+                registrySchemaLookup(schemaRegistryUrl, configs);
+    }
+
+    @Override
+    public SpecificRecordBase deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < HEADER_LENGTH || data[0] != MAGIC_BYTE) {
+            throw new SerializationException("Unknown magic byte in message for topic " + topic);
+        }
+        int id = ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+        DecodeState state = decodeState.get();
+        if (state.lastReader == null || state.lastId != id) {
+            state.lastReader = getReader(id);
+            state.lastId = id;
+        }
+        state.decoder = DecoderFactory.get().binaryDecoder(data, HEADER_LENGTH, data.length - HEADER_LENGTH,
+                state.decoder);
+        try {
+            return state.lastReader.read(null, state.decoder);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error deserializing Avro message with schema id " + id +
+                    " for topic " + topic, e);
+        }
+    }
+
+    // The schema is fetched outside of the map, so a slow registry never blocks threads reading other ids.
+    private SpecificDatumReader<SpecificRecordBase> getReader(int id) {
+        SpecificDatumReader<SpecificRecordBase> reader = readersById.get(id);
+        if (reader != null) {
+            return reader;
+        }
+        reader = createReader(writerSchemaLookup.apply(id));
+        SpecificDatumReader<SpecificRecordBase> existingReader = readersById.putIfAbsent(id, reader);
+        return existingReader == null ? reader : existingReader;
+    }
+
+    private SpecificDatumReader<SpecificRecordBase> createReader(Schema writerSchema) {
+        return readersByFingerprint.computeIfAbsent(SchemaNormalization.parsingFingerprint64(writerSchema),
+                fingerprint -> {
+                    Class<?> recordClass = SpecificData.get().getClass(writerSchema);
+                    if (recordClass == null || !SpecificRecordBase.class.isAssignableFrom(recordClass)) {
+                        throw new SerializationException("No generated record class for schema " +
+                                writerSchema.getFullName());
+                    }
+                    return new SpecificDatumReader<>(writerSchema, SpecificData.get().getSchema(recordClass),
+                            SpecificData.getForClass(recordClass));
+                });
+    }
+
+    private static IntFunction<Schema> registrySchemaLookup(String schemaRegistryUrl, Map<String, ?> configs) {
+        List<String> baseUrls = Arrays.stream(schemaRegistryUrl.split(","))
+                .map(String::trim)
+                .collect(Collectors.toList());
+        SchemaRegistryClient schemaRegistryClient =
+                new CachedSchemaRegistryClient(baseUrls, IDENTITY_MAP_CAPACITY, configs);
+        return id -> {
+            ParsedSchema parsedSchema;
+            try {
+                parsedSchema = schemaRegistryClient.getSchemaById(id);
+            } catch (IOException e) {
+                throw new SchemaRegistryUnavailableException("Could not fetch schema id " + id, e);
+            } catch (RestClientException e) {
+                if (isRetryable(e.getStatus())) {
+                    throw new SchemaRegistryUnavailableException("Schema registry returned " + e.getStatus() +
+                            " for schema id " + id, e);
+                }
+                throw new SerializationException("Schema registry returned " + e.getStatus() +
+                        " for schema id " + id, e);
+            }
+            if (!(parsedSchema instanceof AvroSchema avroSchema)) {
+                throw new SerializationException("Schema id " + id + " is not an Avro schema");
+            }
+            return avroSchema.rawSchema();
+        };
+    }
+
+    private static boolean isRetryable(int status) {
+        return status >= 500 || status == 408 || status == 429;
+    }
+
+    private static final class DecodeState {
+        private BinaryDecoder decoder;
+        private int lastId;
+        private SpecificDatumReader<SpecificRecordBase> lastReader;
+    }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.kafka.consumer.dispatch;
+
+/**
+ * Thrown by a group handler of {@link KeyOrderedBatchDispatcher#dispatchGroups} to name the record of the group that
+ * failed. The records before it have been processed.
+ */
+public class GroupRecordFailedException extends RuntimeException {
+    private final int index;
+
+    public GroupRecordFailedException(int index, Throwable cause) {
+        super("Record at index " + index + " of the group could not be processed", cause);
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+}
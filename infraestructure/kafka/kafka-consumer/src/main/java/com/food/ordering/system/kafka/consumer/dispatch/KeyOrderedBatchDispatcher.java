@@ -0,0 +1,220 @@
+package com.food.ordering.system.kafka.consumer.dispatch;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.metrics.KafkaConsumerMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Fans a polled batch out to the kafka dispatch executor. Records are split into lanes by key hash, so every
+ * record of one key (the order id on all saga topics) stays on one lane in poll order, and the lanes run in
+ * parallel while the listener thread waits for all of them.
+ * <p>
+ * A lane stops at its first failure. The batch is then nacked at the lowest failed index, which commits the
+ * contiguous completed prefix and redelivers from the failed record on after {@code nack-sleep-ms}. Records of
+ * other lanes past that index were already processed and are delivered again, so handlers must skip records they
+ * have already seen: the order sagas skip responses for orders that moved past the step, the payment service skips
+ * requests for orders that already have a payment and the restaurant service requests for orders it already decided
+ * on, both publishing the stored outcome again, which the order saga then skips. A batch without failures is acknowledged as a whole.
+ * <p>
+ * With {@code retry-topics-enabled: true} the failed index is handed to the container's error handler instead,
+ * which commits the same prefix, parks the failed record on its retry topic and redelivers the rest right away.
+ * Values that could not be deserialized arrive as {@link KafkaNull}. The records before the first of them are
+ * processed, and it is always handed to the error handler, which sends it to the dead-letter topic, or down the
+ * retry chain if only the schema registry was unreachable.
+ * <p>
+ * With {@code parallel-dispatch-enabled: false} the batch is handled on the listener thread, with the same
+ * acknowledgement rules.
+ * <p>
+ * With {@code transactions-enabled: true} the batch is always handled on the listener thread, the only thread
+ * bound to the container's Kafka transaction. A failure is rethrown so the transaction, including the responses
+ * already sent for the batch, is rolled back and the batch redelivered as a whole, until
+ * {@code transaction-max-attempts} is reached and the batch is logged and skipped. Values that could not be
+ * deserialized are logged and skipped, as the rolled back batch would bring them back forever.
+ */
+@Slf4j
+@Component
+public class KeyOrderedBatchDispatcher {
+
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final Executor kafkaDispatchExecutor;
+    private final KafkaConsumerMetrics kafkaConsumerMetrics;
+
+    public KeyOrderedBatchDispatcher(KafkaConsumerConfigData kafkaConsumerConfigData,
+                                     @Qualifier("kafkaDispatchExecutor") Executor kafkaDispatchExecutor,
+                                     KafkaConsumerMetrics kafkaConsumerMetrics) {
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.kafkaDispatchExecutor = kafkaDispatchExecutor;
+        this.kafkaConsumerMetrics = kafkaConsumerMetrics;
+    }
+
+    /**
+     * Calls the handler once per record, in poll order within each key.
+     */
+    public <T> void dispatch(List<T> messages, List<String> keys, Acknowledgment acknowledgment,
+                             Consumer<T> recordHandler) {
+        dispatchDeserialized(messages, keys, acknowledgment, lane -> {
+            for (int index : lane) {
+                try {
+                    recordHandler.accept(messages.get(index));
+                } catch (RuntimeException e) {
+                    return new LaneFailure(index, e);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Calls the handler once per lane with all of the lane's records, for listeners that process a batch as a
+     * whole. A lane fails at the record named by a {@link GroupRecordFailedException}, or at its first record if
+     * the handler throws anything else.
+     */
+    public <T> void dispatchGroups(List<T> messages, List<String> keys, Acknowledgment acknowledgment,
+                                   Consumer<List<T>> groupHandler) {
+        dispatchDeserialized(messages, keys, acknowledgment, lane -> {
+            List<T> group = new ArrayList<>(lane.size());
+            lane.forEach(index -> group.add(messages.get(index)));
+            try {
+                groupHandler.accept(group);
+                return null;
+            } catch (GroupRecordFailedException e) {
+                return new LaneFailure(lane.get(e.getIndex()), e);
+            } catch (RuntimeException e) {
+                return new LaneFailure(lane.get(0), e);
+            }
+        });
+    }
+
+    private void dispatchDeserialized(List<?> messages, List<String> keys, Acknowledgment acknowledgment,
+                                      Function<List<Integer>, LaneFailure> laneTask) {
+        if (kafkaConsumerConfigData.getTransactionsEnabled()) {
+            dispatchInTransaction(messages, acknowledgment, laneTask);
+            return;
+        }
+        int deserialized = countDeserialized(messages);
+        LaneFailure failure = null;
+        if (deserialized > 1 && kafkaConsumerConfigData.getParallelDispatchEnabled()) {
+            failure = dispatchLanes(keys, deserialized, laneTask);
+        } else if (deserialized > 0) {
+            failure = laneTask.apply(indexes(deserialized));
+        }
+
+        if (failure == null && deserialized == messages.size()) {
+            acknowledgment.acknowledge();
+        } else if (failure == null) {
+            throw toBatchListenerFailedException(messages.size(), new LaneFailure(deserialized,
+                    new SerializationException("Value at index " + deserialized + " could not be deserialized")));
+        } else if (kafkaConsumerConfigData.getRetryTopicsEnabled()) {
+            throw toBatchListenerFailedException(messages.size(), failure);
+        } else {
+            log.error("Processing of {} records failed at index {}, committing the records before it",
+                    messages.size(), failure.index, failure.cause);
+            kafkaConsumerMetrics.recordError(failure.cause);
+            acknowledgment.nack(failure.index, kafkaConsumerConfigData.getNackSleepMs());
+        }
+    }
+
+    private void dispatchInTransaction(List<?> messages, Acknowledgment acknowledgment,
+                                       Function<List<Integer>, LaneFailure> laneTask) {
+        List<Integer> deserialized = new ArrayList<>(messages.size());
+        for (int index = 0; index < messages.size(); index++) {
+            Object message = messages.get(index);
+            if (message == null || message instanceof KafkaNull) {
+                log.error("Value at index {} of {} records could not be deserialized, skipping it", index,
+                        messages.size());
+                kafkaConsumerMetrics.recordError(
+                        new SerializationException("Value at index " + index + " could not be deserialized"));
+            } else {
+                deserialized.add(index);
+            }
+        }
+        LaneFailure failure = deserialized.isEmpty() ? null : laneTask.apply(deserialized);
+        if (failure != null) {
+            log.error("Processing of {} records failed at index {}, rolling back the batch", messages.size(),
+                    failure.index, failure.cause);
+            kafkaConsumerMetrics.recordError(failure.cause);
+            throw failure.cause;
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private int countDeserialized(List<?> messages) {
+        for (int index = 0; index < messages.size(); index++) {
+            Object message = messages.get(index);
+            if (message == null || message instanceof KafkaNull) {
+                return index;
+            }
+        }
+        return messages.size();
+    }
+
+    private BatchListenerFailedException toBatchListenerFailedException(int batchSize, LaneFailure failure) {
+        log.error("Processing of {} records failed at index {}, handing the record to the error handler",
+                batchSize, failure.index, failure.cause);
+        kafkaConsumerMetrics.recordError(failure.cause);
+        return new BatchListenerFailedException("Record at index " + failure.index + " could not be processed",
+                failure.cause, failure.index);
+    }
+
+    private LaneFailure dispatchLanes(List<String> keys, int batchSize,
+                                      Function<List<Integer>, LaneFailure> laneTask) {
+        List<List<Integer>> lanes = splitByKey(keys, batchSize,
+                Math.min(kafkaConsumerConfigData.getParallelDispatchPoolSize(), batchSize));
+        List<CompletableFuture<LaneFailure>> results = new ArrayList<>(lanes.size());
+        for (List<Integer> lane : lanes) {
+            results.add(CompletableFuture.supplyAsync(() -> laneTask.apply(lane), kafkaDispatchExecutor));
+        }
+        LaneFailure firstFailure = null;
+        for (CompletableFuture<LaneFailure> result : results) {
+            LaneFailure laneFailure = result.join();
+            if (laneFailure != null && (firstFailure == null || laneFailure.index < firstFailure.index)) {
+                firstFailure = laneFailure;
+            }
+        }
+        return firstFailure;
+    }
+
+    private List<Integer> indexes(int batchSize) {
+        List<Integer> indexes = new ArrayList<>(batchSize);
+        for (int index = 0; index < batchSize; index++) {
+            indexes.add(index);
+        }
+        return indexes;
+    }
+
+    private List<List<Integer>> splitByKey(List<String> keys, int batchSize, int laneCount) {
+        List<List<Integer>> lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (int index = 0; index < batchSize; index++) {
+            String key = keys.get(index);
+            lanes.get(key == null ? 0 : Math.floorMod(key.hashCode(), laneCount)).add(index);
+        }
+        lanes.removeIf(List::isEmpty);
+        return lanes;
+    }
+
+    private static final class LaneFailure {
+        private final int index;
+        private final RuntimeException cause;
+
+        private LaneFailure(int index, RuntimeException cause) {
+            this.index = index;
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.food.ordering.system.kafka.consumer.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Meters of the batch listeners, recorded around every {@code KafkaConsumer.receive} call by
+ * {@link KafkaConsumerMetricsInterceptor}, plus per-record error counts from the dispatcher. Batch meters are
+ * tagged by consumer group, which is the listener id, and record latency and lag by topic. Meters are cached per
+ * tag value so recording a batch does not go through the registry lookup.
+ */
+@Component
+public class KafkaConsumerMetrics {
+
+    private static final String GROUP_TAG = "group";
+    private static final String TOPIC_TAG = "topic";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> successfulBatchDurations = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failedBatchDurations = new ConcurrentHashMap<>();
+    private final Map<String, RecordDuration> recordDurations = new ConcurrentHashMap<>();
+    private final Map<String, Timer> recordLatencies = new ConcurrentHashMap<>();
+    private final Map<String, Counter> recordErrors = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, AtomicLong> lags = new ConcurrentHashMap<>();
+
+    public KafkaConsumerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordBatch(String group, int batchSize, long durationNanos, boolean successful) {
+        batchSizes.computeIfAbsent(group, key -> DistributionSummary.builder("kafka.consumer.batch.size")
+                .description("Records per polled batch")
+                .tag(GROUP_TAG, key)
+                .register(meterRegistry)).record(batchSize);
+        Map<String, Timer> batchDurations = successful ? successfulBatchDurations : failedBatchDurations;
+        batchDurations.computeIfAbsent(group, key -> Timer.builder("kafka.consumer.batch.duration")
+                .description("Time spent in the listener per batch")
+                .tags(GROUP_TAG, key, "outcome", successful ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)).record(durationNanos, TimeUnit.NANOSECONDS);
+        recordDurations.computeIfAbsent(group, this::registerRecordDuration).add(batchSize, durationNanos);
+    }
+
+    public void recordLatency(String topic, long latencyMillis) {
+        recordLatencies.computeIfAbsent(topic, key -> Timer.builder("kafka.consumer.record.latency")
+                .description("Time from the record timestamp until its batch was processed")
+                .tag(TOPIC_TAG, key)
+                .publishPercentileHistogram()
+                .register(meterRegistry)).record(Math.max(latencyMillis, 0L), TimeUnit.MILLISECONDS);
+    }
+
+    public void recordLag(TopicPartition topicPartition, long lag) {
+        lags.computeIfAbsent(topicPartition, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("kafka.consumer.lag", value, AtomicLong::get)
+                    .description("Records between the consumer position and the end of the partition")
+                    .tags(TOPIC_TAG, key.topic(), "partition", String.valueOf(key.partition()))
+                    .register(meterRegistry);
+            return value;
+        }).set(lag);
+    }
+
+    /**
+     * Drops the lag of partitions this instance no longer consumes, so neither the gauge nor the tuner keep reporting
+     * the last value sampled before a rebalance.
+     */
+    public void removeLags(Collection<TopicPartition> topicPartitions) {
+        for (TopicPartition topicPartition : topicPartitions) {
+            if (lags.remove(topicPartition) != null) {
+                Gauge gauge = meterRegistry.find("kafka.consumer.lag")
+                        .tags(TOPIC_TAG, topicPartition.topic(), "partition",
+                                String.valueOf(topicPartition.partition()))
+                        .gauge();
+                if (gauge != null) {
+                    meterRegistry.remove(gauge);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lag of the partition as sampled with its last batch, 0 before the first one.
+     */
+    public long getLag(TopicPartition topicPartition) {
+        AtomicLong lag = lags.get(topicPartition);
+        return lag == null ? 0L : lag.get();
+    }
+
+    /**
+     * Listener time per record of the group, null before its first batch.
+     */
+    public FunctionTimer getRecordDuration(String group) {
+        RecordDuration recordDuration = recordDurations.get(group);
+        return recordDuration == null ? null : recordDuration.timer;
+    }
+
+    // Per-record time is the batch time over its record count, as lanes of one batch overlap in time.
+    private RecordDuration registerRecordDuration(String group) {
+        RecordDuration recordDuration = new RecordDuration();
+        recordDuration.timer = FunctionTimer.builder("kafka.consumer.record.duration", recordDuration,
+                        value -> value.records.sum(), value -> value.nanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Listener time per record of a batch")
+                .tag(GROUP_TAG, group)
+                .register(meterRegistry);
+        return recordDuration;
+    }
+
+    public void recordError(Throwable cause) {
+        recordErrors.computeIfAbsent(cause.getClass().getSimpleName(), key ->
+                Counter.builder("kafka.consumer.record.errors")
+                        .description("Records that failed in a listener and were nacked or parked")
+                        .tag("exception", key)
+                        .register(meterRegistry)).increment();
+    }
+
+    private static final class RecordDuration {
+        private final LongAdder records = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private FunctionTimer timer;
+
+        private void add(int batchSize, long durationNanos) {
+            records.add(batchSize);
+            nanos.add(durationNanos);
+        }
+    }
+}
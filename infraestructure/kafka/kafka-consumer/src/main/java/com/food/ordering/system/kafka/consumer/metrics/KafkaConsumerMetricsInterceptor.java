@@ -0,0 +1,55 @@
+package com.food.ordering.system.kafka.consumer.metrics;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+import java.util.OptionalLong;
+
+/**
+ * Times each batch from hand-off to the listener until it returns, on the container thread, and samples the
+ * lag of the batch's partitions from the consumer's cached fetch positions, which needs no broker round trip.
+ */
+public class KafkaConsumerMetricsInterceptor<K, V> implements BatchInterceptor<K, V> {
+
+    private final KafkaConsumerMetrics kafkaConsumerMetrics;
+    private final ThreadLocal<long[]> batchStartNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    public KafkaConsumerMetricsInterceptor(KafkaConsumerMetrics kafkaConsumerMetrics) {
+        this.kafkaConsumerMetrics = kafkaConsumerMetrics;
+    }
+
+    @Override
+    public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        for (TopicPartition topicPartition : records.partitions()) {
+            OptionalLong lag = consumer.currentLag(topicPartition);
+            if (lag.isPresent()) {
+                kafkaConsumerMetrics.recordLag(topicPartition, lag.getAsLong());
+            }
+        }
+        batchStartNanos.get()[0] = System.nanoTime();
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        complete(records, consumer, true);
+    }
+
+    @Override
+    public void failure(ConsumerRecords<K, V> records, Exception exception, Consumer<K, V> consumer) {
+        complete(records, consumer, false);
+    }
+
+    private void complete(ConsumerRecords<K, V> records, Consumer<K, V> consumer, boolean successful) {
+        long durationNanos = System.nanoTime() - batchStartNanos.get()[0];
+        kafkaConsumerMetrics.recordBatch(consumer.groupMetadata().groupId(), records.count(), durationNanos,
+                successful);
+        long now = System.currentTimeMillis();
+        for (ConsumerRecord<K, V> record : records) {
+            kafkaConsumerMetrics.recordLatency(record.topic(), now - record.timestamp());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.food.ordering.system.kafka.consumer.metrics;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import java.util.Collection;
+
+/**
+ * Forgets the lag of revoked and lost partitions, the consumer that gets them next samples it again.
+ */
+public class KafkaConsumerMetricsRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private final KafkaConsumerMetrics kafkaConsumerMetrics;
+
+    public KafkaConsumerMetricsRebalanceListener(KafkaConsumerMetrics kafkaConsumerMetrics) {
+        this.kafkaConsumerMetrics = kafkaConsumerMetrics;
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        kafkaConsumerMetrics.removeLags(partitions);
+    }
+
+    @Override
+    public void onPartitionsLost(Collection<TopicPartition> partitions) {
+        kafkaConsumerMetrics.removeLags(partitions);
+    }
+}
@@ -0,0 +1,45 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/kafka/dead-letters")
+@ConditionalOnProperty(prefix = "kafka-consumer-config", name = "retry-topics-enabled", havingValue = "true")
+public class DeadLetterReplayController {
+    private final DeadLetterReplayService deadLetterReplayService;
+    private final RetryTopicResolver retryTopicResolver;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+
+    public DeadLetterReplayController(DeadLetterReplayService deadLetterReplayService,
+                                      RetryTopicResolver retryTopicResolver,
+                                      KafkaConsumerConfigData kafkaConsumerConfigData) {
+        this.deadLetterReplayService = deadLetterReplayService;
+        this.retryTopicResolver = retryTopicResolver;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+    }
+
+    @PostMapping("/{topic}/replay")
+    public ResponseEntity<DeadLetterReplayResponse> replay(@PathVariable String topic,
+                                                           @RequestParam(required = false) Integer maxRecords,
+                                                           @RequestParam(required = false) Integer recordsPerSecond) {
+        int limit = maxRecords == null ? kafkaConsumerConfigData.getDeadLetterReplayMaxRecords() : maxRecords;
+        int rate = recordsPerSecond == null ?
+                kafkaConsumerConfigData.getDeadLetterReplayRecordsPerSecond() :
+                Math.min(recordsPerSecond, kafkaConsumerConfigData.getDeadLetterReplayRecordsPerSecond());
+        if (limit <= 0 || rate <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("Replaying up to {} parked records of topic {} at {} records per second.", limit, topic, rate);
+        int replayedRecords = deadLetterReplayService.replay(topic, limit, rate);
+        return ResponseEntity.ok(DeadLetterReplayResponse.builder()
+                .topic(topic)
+                .deadLetterTopic(retryTopicResolver.getDeadLetterTopic(topic))
+                .replayedRecords(replayedRecords)
+                .build());
+    }
+}
@@ -0,0 +1,14 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class DeadLetterReplayResponse {
+    private final String topic;
+    private final String deadLetterTopic;
+    private final int replayedRecords;
+}
@@ -0,0 +1,141 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Moves parked records from a dead-letter topic back to their original topic at a bounded rate, with the retry
+ * attempt count reset. The dead-letter partitions are assigned, not subscribed, and their offsets are committed
+ * under the retry consumer group id suffixed with {@code -dlt-replay}, so a replay never rebalances the retry
+ * forwarders and picks up where the previous one stopped.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kafka-consumer-config", name = "retry-topics-enabled", havingValue = "true")
+public class DeadLetterReplayService {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final String REPLAY_SUFFIX = "-dlt-replay";
+
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final RetryTopicResolver retryTopicResolver;
+    private final ConsumerFactory<String, byte[]> kafkaRetryConsumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaRetryBytesTemplate;
+
+    public DeadLetterReplayService(KafkaConsumerConfigData kafkaConsumerConfigData,
+                                   RetryTopicResolver retryTopicResolver,
+                                   @Qualifier("kafkaRetryConsumerFactory")
+                                   ConsumerFactory<String, byte[]> kafkaRetryConsumerFactory,
+                                   @Qualifier("kafkaRetryBytesTemplate")
+                                   KafkaTemplate<String, byte[]> kafkaRetryBytesTemplate) {
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.retryTopicResolver = retryTopicResolver;
+        this.kafkaRetryConsumerFactory = kafkaRetryConsumerFactory;
+        this.kafkaRetryBytesTemplate = kafkaRetryBytesTemplate;
+    }
+
+    /**
+     * Replays up to {@code maxRecords} records of the dead-letter topic of {@code topic}, sending at most
+     * {@code recordsPerSecond} of them per second, and returns how many were sent back. Records parked after the
+     * replay started are left for the next one.
+     */
+    public synchronized int replay(String topic, int maxRecords, int recordsPerSecond) {
+        String deadLetterTopic = retryTopicResolver.getDeadLetterTopic(topic);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / recordsPerSecond;
+        long nextSendNanos = System.nanoTime();
+        int replayed = 0;
+        try (Consumer<String, byte[]> consumer = kafkaRetryConsumerFactory.createConsumer(
+                kafkaConsumerConfigData.getRetryConsumerGroupId() + REPLAY_SUFFIX, REPLAY_SUFFIX)) {
+            Map<TopicPartition, Long> endOffsets = assign(consumer, deadLetterTopic);
+            Set<TopicPartition> pendingPartitions = new HashSet<>(endOffsets.keySet());
+            pendingPartitions.removeIf(partition -> consumer.position(partition) >= endOffsets.get(partition));
+            while (replayed < maxRecords && !pendingPartitions.isEmpty()) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (TopicPartition partition : records.partitions()) {
+                    long endOffset = endOffsets.get(partition);
+                    for (ConsumerRecord<String, byte[]> record : records.records(partition)) {
+                        if (record.offset() >= endOffset || replayed == maxRecords) {
+                            break;
+                        }
+                        LockSupport.parkNanos(nextSendNanos - System.nanoTime());
+                        nextSendNanos = Math.max(nextSendNanos, System.nanoTime()) + intervalNanos;
+                        send(record, topic);
+                        offsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                        replayed++;
+                    }
+                }
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+                List<TopicPartition> completedPartitions = pendingPartitions.stream()
+                        .filter(partition -> consumer.position(partition) >= endOffsets.get(partition))
+                        .collect(Collectors.toList());
+                consumer.pause(completedPartitions);
+                completedPartitions.forEach(pendingPartitions::remove);
+            }
+        }
+        log.info("{} records replayed from {} to {}", replayed, deadLetterTopic, topic);
+        return replayed;
+    }
+
+    /**
+     * Assigns all partitions of the dead-letter topic, positioned at the offsets committed by the previous replay,
+     * and returns their end offsets at this moment.
+     */
+    private Map<TopicPartition, Long> assign(Consumer<String, byte[]> consumer, String deadLetterTopic) {
+        List<TopicPartition> partitions = consumer.partitionsFor(deadLetterTopic).stream()
+                .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+                .collect(Collectors.toList());
+        consumer.assign(partitions);
+        Map<TopicPartition, OffsetAndMetadata> committedOffsets = consumer.committed(new HashSet<>(partitions));
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata committedOffset = committedOffsets.get(partition);
+            if (committedOffset == null) {
+                consumer.seekToBeginning(List.of(partition));
+            } else {
+                consumer.seek(partition, committedOffset);
+            }
+        }
+        return consumer.endOffsets(partitions);
+    }
+
+    private void send(ConsumerRecord<String, byte[]> record, String topic) {
+        Headers headers = record.headers();
+        headers.remove(RetryTopicResolver.RETRY_ATTEMPT_HEADER);
+        try {
+            kafkaRetryBytesTemplate.send(new ProducerRecord<>(topic, null, record.key(), record.value(), headers))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while replaying record with key " + record.key(), e);
+        } catch (ExecutionException e) {
+            throw new KafkaException("Could not replay record with key " + record.key() + " to " + topic,
+                    e.getCause());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "kafka-consumer-config", name = "retry-topics-enabled", havingValue = "true")
+public class KafkaRetryTopicConfig {
+    private final KafkaConfigData kafkaConfigData;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final RetryTopicResolver retryTopicResolver;
+
+    public KafkaRetryTopicConfig(KafkaConfigData kafkaConfigData,
+                                 KafkaConsumerConfigData kafkaConsumerConfigData,
+                                 KafkaProducerConfigData kafkaProducerConfigData,
+                                 RetryTopicResolver retryTopicResolver) {
+        this.kafkaConfigData = kafkaConfigData;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
+        this.retryTopicResolver = retryTopicResolver;
+    }
+
+    @Bean
+    public KafkaTemplate<String, SpecificRecordBase> kafkaRetryTemplate() {
+        Map<String, Object> props = retryProducerConfig();
+        props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+        props.putAll(kafkaConfigData.getSchemaRegistryProperties());
+        if (kafkaConfigData.getValueSubjectNameStrategy() != null) {
+            props.put(kafkaConfigData.getValueSubjectNameStrategyKey(), kafkaConfigData.getValueSubjectNameStrategy());
+        }
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getValueSerializerClass());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    // Carries records that are moved as they are: undeserializable values, retry forwarding and replay.
+    @Bean
+    public KafkaTemplate<String, byte[]> kafkaRetryBytesTemplate() {
+        Map<String, Object> props = retryProducerConfig();
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    @Bean
+    public ConsumerFactory<String, byte[]> kafkaRetryConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, kafkaConsumerConfigData.getRetryConsumerGroupId());
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, kafkaConsumerConfigData.getAutoOffsetReset());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, kafkaConsumerConfigData.getMaxPollIntervalMs());
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer() {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, kafkaRetryBytesTemplate());
+        templates.put(SpecificRecordBase.class, kafkaRetryTemplate());
+        DeadLetterPublishingRecoverer recoverer =
+                new DeadLetterPublishingRecoverer(templates, retryTopicResolver::resolveDestination);
+        recoverer.setHeadersFunction(retryTopicResolver::nextAttemptHeaders);
+        recoverer.setAppendOriginalHeaders(false);
+        return recoverer;
+    }
+
+    // No retries in place: a failed record is parked on its retry topic at once and the partition moves on.
+    @Bean
+    public DefaultErrorHandler kafkaRetryErrorHandler() {
+        return new DefaultErrorHandler(deadLetterPublishingRecoverer(), new FixedBackOff(0L, 0L));
+    }
+
+    private Map<String, Object> retryProducerConfig() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, kafkaProducerConfigData.getAcks());
+        props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, kafkaProducerConfigData.getRequestTimeoutMs());
+        props.put(ProducerConfig.RETRIES_CONFIG, kafkaProducerConfigData.getRetryCount());
+        return props;
+    }
+}
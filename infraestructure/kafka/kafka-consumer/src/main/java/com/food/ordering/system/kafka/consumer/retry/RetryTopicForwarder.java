@@ -0,0 +1,198 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.AcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consumes the retry topics of every topic the service listens to and sends each record back to its original
+ * topic once the delay of its retry level has passed. Each retry topic only holds records of one delay, so the
+ * record at the head of a partition is always the next one due. A partition whose head is not due yet is rewound to
+ * it and paused until it is, while the consumer keeps forwarding the other partitions and source topics of its
+ * retry level.
+ * <p>
+ * A forwarded record is delivered again to every consumer group of its original topic, so each saga topic must be
+ * consumed by exactly one group. Startup fails if two listeners of this service read one topic under different
+ * groups; groups of other services on the same topic cannot be seen from here.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kafka-consumer-config", name = "retry-topics-enabled", havingValue = "true")
+public class RetryTopicForwarder implements SmartLifecycle {
+
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final RetryTopicResolver retryTopicResolver;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final ConsumerFactory<String, byte[]> kafkaRetryConsumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaRetryBytesTemplate;
+    private final List<ConcurrentMessageListenerContainer<String, byte[]>> containers = new ArrayList<>();
+    private volatile ScheduledExecutorService scheduler;
+
+    public RetryTopicForwarder(KafkaConsumerConfigData kafkaConsumerConfigData,
+                               RetryTopicResolver retryTopicResolver,
+                               KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                               @Qualifier("kafkaRetryConsumerFactory")
+                               ConsumerFactory<String, byte[]> kafkaRetryConsumerFactory,
+                               @Qualifier("kafkaRetryBytesTemplate")
+                               KafkaTemplate<String, byte[]> kafkaRetryBytesTemplate) {
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.retryTopicResolver = retryTopicResolver;
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.kafkaRetryConsumerFactory = kafkaRetryConsumerFactory;
+        this.kafkaRetryBytesTemplate = kafkaRetryBytesTemplate;
+    }
+
+    @Override
+    public synchronized void start() {
+        Map<String, String> topicGroupIds = new TreeMap<>();
+        for (MessageListenerContainer container : kafkaListenerEndpointRegistry.getListenerContainers()) {
+            String[] topics = container.getContainerProperties().getTopics();
+            if (topics != null) {
+                for (String topic : topics) {
+                    String groupId = topicGroupIds.putIfAbsent(topic, container.getGroupId());
+                    if (groupId != null && !groupId.equals(container.getGroupId())) {
+                        throw new IllegalStateException("Topic " + topic + " is consumed by groups " + groupId +
+                                " and " + container.getGroupId() + ", retry topics need a single group per topic");
+                    }
+                }
+            }
+        }
+        Set<String> sourceTopics = topicGroupIds.keySet();
+        if (sourceTopics.isEmpty()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "retry-topic-forwarder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int attempt = 0; attempt < retryTopicResolver.getRetryLevels(); attempt++) {
+            List<String> retryTopics = retryTopicResolver.getRetryTopics(sourceTopics, attempt);
+            ContainerProperties containerProperties = new ContainerProperties(retryTopics.toArray(new String[0]));
+            containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+            DueRecordForwarder forwarder = new DueRecordForwarder(retryTopicResolver.getDelayMs(attempt));
+            containerProperties.setMessageListener(forwarder);
+            containerProperties.setConsumerRebalanceListener(forwarder);
+            ConcurrentMessageListenerContainer<String, byte[]> container =
+                    new ConcurrentMessageListenerContainer<>(kafkaRetryConsumerFactory, containerProperties);
+            forwarder.container = container;
+            container.setBeanName("retry-topic-forwarder-" + attempt);
+            container.start();
+            containers.add(container);
+            log.info("Forwarding retry topics {} back after {} ms", retryTopics, retryTopicResolver.getDelayMs(attempt));
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        containers.clear();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return !containers.isEmpty();
+    }
+
+    private void resumeLater(MessageListenerContainer container, TopicPartition partition, long delayMs) {
+        ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler != null) {
+            scheduler.schedule(() -> container.resumePartition(partition), delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void send(ConsumerRecord<String, byte[]> record, String topic) {
+        try {
+            kafkaRetryBytesTemplate.send(new ProducerRecord<>(topic, null, record.key(), record.value(),
+                    record.headers())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while sending record with key " + record.key() + " to " + topic, e);
+        } catch (ExecutionException e) {
+            throw new KafkaException("Could not send record with key " + record.key() + " to " + topic, e.getCause());
+        }
+    }
+
+    private class DueRecordForwarder implements AcknowledgingConsumerAwareMessageListener<String, byte[]>,
+            ConsumerAwareRebalanceListener {
+
+        private final long delayMs;
+        // Offset each held partition was rewound to. Records after it were fetched by the same poll and are skipped.
+        private final Map<TopicPartition, Long> heldOffsets = new ConcurrentHashMap<>();
+        private MessageListenerContainer container;
+
+        private DueRecordForwarder(long delayMs) {
+            this.delayMs = delayMs;
+        }
+
+        @Override
+        public void onMessage(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment,
+                              Consumer<?, ?> consumer) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            Long heldOffset = heldOffsets.get(partition);
+            if (heldOffset != null) {
+                if (record.offset() > heldOffset) {
+                    return;
+                }
+                heldOffsets.remove(partition);
+            }
+            long remainingMs = record.timestamp() + delayMs - System.currentTimeMillis();
+            if (remainingMs > 0) {
+                consumer.seek(partition, record.offset());
+                heldOffsets.put(partition, record.offset());
+                container.pausePartition(partition);
+                resumeLater(container, partition, remainingMs);
+                return;
+            }
+            String originalTopic = retryTopicResolver.getOriginalTopic(record,
+                    kafkaConsumerConfigData.getRetryTopicSuffix());
+            send(record, originalTopic);
+            acknowledgment.acknowledge();
+            log.info("Record with key {} sent back to topic {} for retry attempt {}", record.key(), originalTopic,
+                    retryTopicResolver.getAttempt(record.headers()));
+        }
+
+        @Override
+        public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+            heldOffsets.keySet().removeAll(partitions);
+        }
+
+        @Override
+        public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+            heldOffsets.keySet().removeAll(partitions);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.food.ordering.system.kafka.consumer.retry;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.listener.ListenerUtils;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Names and routing of the retry chain of a saga topic: {@code <topic>-retry-0 .. <topic>-retry-n} with the delays
+ * of {@code retry-topic-delays-ms}, then {@code <topic>-dlt}. The attempt count travels with the record in the
+ * {@value #RETRY_ATTEMPT_HEADER} header, so a record that comes back from a retry topic and fails again moves one
+ * step further down the chain. Records whose value could not be deserialized go straight to the dead-letter topic,
+ * unless the deserializer failed on a {@link RetriableException} such as an unreachable schema registry.
+ */
+@Component
+public class RetryTopicResolver {
+
+    public static final String RETRY_ATTEMPT_HEADER = "retry-attempt";
+
+    private static final LogAccessor LOGGER = new LogAccessor(RetryTopicResolver.class);
+
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+
+    public RetryTopicResolver(KafkaConsumerConfigData kafkaConsumerConfigData) {
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+    }
+
+    public TopicPartition resolveDestination(ConsumerRecord<?, ?> record, Exception exception) {
+        int attempt = getAttempt(record.headers());
+        // A negative partition lets the producer partition by key, so retry topics need not match partition counts.
+        if (isUndeserializable(record) || attempt >= getRetryLevels()) {
+            return new TopicPartition(getDeadLetterTopic(record.topic()), -1);
+        }
+        return new TopicPartition(getRetryTopic(record.topic(), attempt), -1);
+    }
+
+    public Headers nextAttemptHeaders(ConsumerRecord<?, ?> record, Exception exception) {
+        Headers headers = new RecordHeaders();
+        headers.add(RETRY_ATTEMPT_HEADER, ByteBuffer.allocate(Integer.BYTES)
+                .putInt(getAttempt(record.headers()) + 1).array());
+        return headers;
+    }
+
+    public int getAttempt(Headers headers) {
+        Header header = headers.lastHeader(RETRY_ATTEMPT_HEADER);
+        return header == null ? 0 : ByteBuffer.wrap(header.value()).getInt();
+    }
+
+    public String getOriginalTopic(ConsumerRecord<?, ?> record, String suffix) {
+        Header header = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        if (header != null) {
+            return new String(header.value(), StandardCharsets.UTF_8);
+        }
+        return record.topic().substring(0, record.topic().lastIndexOf(suffix));
+    }
+
+    private boolean isUndeserializable(ConsumerRecord<?, ?> record) {
+        DeserializationException deserializationException = ListenerUtils.getExceptionFromHeader(record,
+                SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOGGER);
+        for (Throwable cause = deserializationException; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException) {
+                return false;
+            }
+        }
+        return deserializationException != null;
+    }
+
+    public int getRetryLevels() {
+        return kafkaConsumerConfigData.getRetryTopicDelaysMs().size();
+    }
+
+    public long getDelayMs(int attempt) {
+        return kafkaConsumerConfigData.getRetryTopicDelaysMs().get(attempt);
+    }
+
+    public String getRetryTopic(String topic, int attempt) {
+        return topic + kafkaConsumerConfigData.getRetryTopicSuffix() + "-" + attempt;
+    }
+
+    public List<String> getRetryTopics(Collection<String> topics, int attempt) {
+        return topics.stream().map(topic -> getRetryTopic(topic, attempt)).collect(Collectors.toList());
+    }
+
+    public String getDeadLetterTopic(String topic) {
+        return topic + kafkaConsumerConfigData.getDeadLetterTopicSuffix();
+    }
+}
@@ -0,0 +1,101 @@
+package com.food.ordering.system.kafka.consumer.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.AfterRollbackProcessor;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.ListenerUtils;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redelivers a rolled back batch after {@code nack-sleep-ms}, at most {@code transaction-max-attempts} times. The
+ * batch is then logged record by record and skipped: the offsets past it are committed in the transaction the
+ * container opens for this processor, so the partitions move on and the skip survives a rebalance.
+ * <p>
+ * Spring's {@code DefaultAfterRollbackProcessor} never recovers the records of a batch listener, whatever its
+ * back off, so a batch that always fails would hold its partitions forever.
+ */
+@Slf4j
+public class BatchSkippingAfterRollbackProcessor<K, V> implements AfterRollbackProcessor<K, V> {
+
+    private final KafkaTemplate<K, V> kafkaTemplate;
+    private final long nackSleepMs;
+    private final int maxAttempts;
+
+    // First record of the last failed batch per partition, with the number of times that batch failed.
+    private final Map<TopicPartition, FailedBatch> failedBatches = new ConcurrentHashMap<>();
+
+    public BatchSkippingAfterRollbackProcessor(ProducerFactory<K, V> producerFactory, long nackSleepMs,
+                                               int maxAttempts) {
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.nackSleepMs = nackSleepMs;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void process(List<ConsumerRecord<K, V>> records, Consumer<K, V> consumer,
+                        MessageListenerContainer container, Exception exception, boolean recoverable,
+                        ContainerProperties.EOSMode eosMode) {
+        if (records.isEmpty()) {
+            return;
+        }
+        ConsumerRecord<K, V> first = records.get(0);
+        TopicPartition firstPartition = new TopicPartition(first.topic(), first.partition());
+        FailedBatch failedBatch = failedBatches.merge(firstPartition, new FailedBatch(first.offset(), 1),
+                (previous, current) -> previous.offset() == current.offset() ?
+                        new FailedBatch(previous.offset(), previous.attempts() + 1) : current);
+        if (failedBatch.attempts() < maxAttempts) {
+            seekToFirstOffsets(records, consumer);
+            sleep(container);
+            return;
+        }
+        failedBatches.remove(firstPartition);
+        skip(records, consumer, exception);
+    }
+
+    @Override
+    public boolean isProcessInTransaction() {
+        return true;
+    }
+
+    private void seekToFirstOffsets(List<ConsumerRecord<K, V>> records, Consumer<K, V> consumer) {
+        Map<TopicPartition, Long> firstOffsets = new LinkedHashMap<>();
+        for (ConsumerRecord<K, V> record : records) {
+            firstOffsets.putIfAbsent(new TopicPartition(record.topic(), record.partition()), record.offset());
+        }
+        firstOffsets.forEach(consumer::seek);
+    }
+
+    private void sleep(MessageListenerContainer container) {
+        try {
+            ListenerUtils.stoppableSleep(container, nackSleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void skip(List<ConsumerRecord<K, V>> records, Consumer<K, V> consumer, Exception exception) {
+        Map<TopicPartition, OffsetAndMetadata> nextOffsets = new LinkedHashMap<>();
+        for (ConsumerRecord<K, V> record : records) {
+            log.error("Skipping record of topic {} partition {} offset {} with key {} after {} failed attempts",
+                    record.topic(), record.partition(), record.offset(), record.key(), maxAttempts);
+            nextOffsets.put(new TopicPartition(record.topic(), record.partition()),
+                    new OffsetAndMetadata(record.offset() + 1));
+        }
+        log.error("Skipped a batch of {} records", records.size(), exception);
+        kafkaTemplate.sendOffsetsToTransaction(nextOffsets, consumer.groupMetadata());
+    }
+
+    private record FailedBatch(long offset, int attempts) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.kafka.consumer.transaction;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+
+import java.io.Serializable;
+
+/**
+ * Runs every listener batch in a Kafka transaction: the responses sent through {@code KafkaProducerImpl} on the
+ * listener thread and the offsets of the batch are committed together, or not at all. Each listener container gets
+ * its own transaction manager with {@code transactional.id} prefix {@code <transactional-id-prefix><listener id>-},
+ * so producers of different containers never fence each other. The prefix has to differ per service instance.
+ * <p>
+ * A failed batch is rolled back as a whole and redelivered after {@code nack-sleep-ms}, and skipped after
+ * {@code transaction-max-attempts} failures, see {@link BatchSkippingAfterRollbackProcessor}. Records of a rolled
+ * back batch cannot be parked one by one, so this mode does not combine with {@code retry-topics-enabled}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "kafka-consumer-config", name = "transactions-enabled", havingValue = "true")
+public class KafkaTransactionConfig<K extends Serializable, V extends SpecificRecordBase> {
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final ProducerFactory<K, V> producerFactory;
+
+    public KafkaTransactionConfig(KafkaConsumerConfigData kafkaConsumerConfigData,
+                                  KafkaProducerConfigData kafkaProducerConfigData,
+                                  ProducerFactory<K, V> producerFactory) {
+        if (kafkaConsumerConfigData.getRetryTopicsEnabled()) {
+            throw new IllegalStateException("kafka-consumer-config.transactions-enabled cannot be combined with " +
+                    "kafka-consumer-config.retry-topics-enabled");
+        }
+        if (!producerFactory.transactionCapable()) {
+            throw new IllegalStateException("kafka-consumer-config.transactions-enabled requires " +
+                    "kafka-producer-config.transactional-id-prefix to be set");
+        }
+        if (kafkaConsumerConfigData.getTransactionMaxAttempts() < 1) {
+            throw new IllegalStateException("kafka-consumer-config.transaction-max-attempts must be at least 1");
+        }
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
+        this.producerFactory = producerFactory;
+    }
+
+    @Bean
+    public ContainerCustomizer<K, V, ConcurrentMessageListenerContainer<K, V>> kafkaTransactionContainerCustomizer() {
+        return container -> {
+            KafkaTransactionManager<K, V> transactionManager = new KafkaTransactionManager<>(producerFactory);
+            transactionManager.setTransactionIdPrefix(kafkaProducerConfigData.getTransactionalIdPrefix() +
+                    container.getListenerId() + "-");
+            container.getContainerProperties().setTransactionManager(transactionManager);
+            container.setAfterRollbackProcessor(new BatchSkippingAfterRollbackProcessor<>(producerFactory,
+                    kafkaConsumerConfigData.getNackSleepMs(), kafkaConsumerConfigData.getTransactionMaxAttempts()));
+        };
+    }
+}
@@ -0,0 +1,242 @@
+package com.food.ordering.system.kafka.consumer.tuning;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.metrics.KafkaConsumerMetrics;
+import io.micrometer.core.instrument.FunctionTimer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sizes {@code max.poll.records} and the concurrency of every {@code @KafkaListener} container from its lag and
+ * listener time per record, once per {@code adaptive-tuning-interval-ms}. Above {@code adaptive-lag-high-watermark}
+ * the batch size doubles up to {@code adaptive-max-poll-records}, then a consumer thread is added up to
+ * {@code adaptive-max-concurrency}. Below {@code adaptive-lag-low-watermark} both shrink back one step per interval,
+ * so an idle listener polls small batches. In between nothing changes. A full batch is always kept within half of
+ * {@code max-poll-interval-ms} at the measured time per record.
+ * <p>
+ * Both settings are only read when a consumer is created, so a change restarts the container, which commits the
+ * current batch and rebalances the group once. Listeners pinned through {@link ListenerTuningController} are left
+ * alone until released. The tuner and its controller only exist with {@code adaptive-tuning-enabled: true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kafka-consumer-config", name = "adaptive-tuning-enabled", havingValue = "true")
+public class ListenerTuner implements SmartLifecycle {
+
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final KafkaConsumerMetrics kafkaConsumerMetrics;
+    private final Map<String, ListenerState> listenerStates = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public ListenerTuner(KafkaConsumerConfigData kafkaConsumerConfigData,
+                         KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                         KafkaConsumerMetrics kafkaConsumerMetrics) {
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.kafkaConsumerMetrics = kafkaConsumerMetrics;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kafka-listener-tuner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = kafkaConsumerConfigData.getAdaptiveTuningIntervalMs();
+        scheduler.scheduleWithFixedDelay(this::tuneListeners, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    public synchronized List<ListenerTuningResponse> getListeners() {
+        List<ListenerTuningResponse> listeners = new ArrayList<>();
+        for (MessageListenerContainer container : kafkaListenerEndpointRegistry.getListenerContainers()) {
+            if (container instanceof ConcurrentMessageListenerContainer) {
+                listeners.add(toResponse((ConcurrentMessageListenerContainer<?, ?>) container));
+            }
+        }
+        return listeners;
+    }
+
+    /**
+     * Applies the given settings, keeping the current one where null, and pins the listener to them.
+     */
+    public synchronized Optional<ListenerTuningResponse> pin(String listenerId, Integer maxPollRecords,
+                                                             Integer concurrency) {
+        return findContainer(listenerId).map(container -> {
+            ListenerState state = getState(container);
+            state.pinned = true;
+            apply(container, state, maxPollRecords == null ? state.maxPollRecords : maxPollRecords,
+                    concurrency == null ? container.getConcurrency() : concurrency);
+            return toResponse(container);
+        });
+    }
+
+    /**
+     * Hands a pinned listener back to the adaptive tuning, which starts from its current settings.
+     */
+    public synchronized Optional<ListenerTuningResponse> release(String listenerId) {
+        return findContainer(listenerId).map(container -> {
+            getState(container).pinned = false;
+            return toResponse(container);
+        });
+    }
+
+    private synchronized void tuneListeners() {
+        try {
+            for (MessageListenerContainer container : kafkaListenerEndpointRegistry.getListenerContainers()) {
+                if (container instanceof ConcurrentMessageListenerContainer && container.isRunning()) {
+                    tune((ConcurrentMessageListenerContainer<?, ?>) container);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Tuning of kafka listeners failed", e);
+        }
+    }
+
+    private void tune(ConcurrentMessageListenerContainer<?, ?> container) {
+        ListenerState state = getState(container);
+        double recordMillis = sampleRecordMillis(container, state);
+        if (state.pinned) {
+            return;
+        }
+        long lag = getLag(container);
+        int maxPollRecords = state.maxPollRecords;
+        int concurrency = container.getConcurrency();
+        int maxPollRecordsLimit = kafkaConsumerConfigData.getAdaptiveMaxPollRecords();
+        if (recordMillis > 0) {
+            maxPollRecordsLimit = (int) Math.min(maxPollRecordsLimit,
+                    kafkaConsumerConfigData.getMaxPollIntervalMs() / 2 / recordMillis);
+        }
+        if (lag >= kafkaConsumerConfigData.getAdaptiveLagHighWatermark()) {
+            if (maxPollRecords < maxPollRecordsLimit) {
+                maxPollRecords = maxPollRecords * 2;
+            } else {
+                concurrency = Math.min(concurrency + 1, kafkaConsumerConfigData.getAdaptiveMaxConcurrency());
+            }
+        } else if (lag <= kafkaConsumerConfigData.getAdaptiveLagLowWatermark()) {
+            maxPollRecords = maxPollRecords / 2;
+            concurrency = Math.max(concurrency - 1, kafkaConsumerConfigData.getAdaptiveMinConcurrency());
+        }
+        maxPollRecords = Math.max(Math.min(maxPollRecords, maxPollRecordsLimit),
+                kafkaConsumerConfigData.getAdaptiveMinPollRecords());
+        if (maxPollRecords != state.maxPollRecords || concurrency != container.getConcurrency()) {
+            log.info("Tuning kafka listener {} at lag {} and {} ms per record: max.poll.records {} -> {}, " +
+                            "concurrency {} -> {}", container.getListenerId(), lag,
+                    String.format("%.3f", recordMillis), state.maxPollRecords, maxPollRecords,
+                    container.getConcurrency(), concurrency);
+            apply(container, state, maxPollRecords, concurrency);
+        }
+    }
+
+    // Listener time per record since the previous sample, or the last known one if no record was processed.
+    private double sampleRecordMillis(ConcurrentMessageListenerContainer<?, ?> container, ListenerState state) {
+        FunctionTimer recordDuration = kafkaConsumerMetrics.getRecordDuration(container.getGroupId());
+        if (recordDuration == null) {
+            return state.recordMillis;
+        }
+        double count = recordDuration.count();
+        double totalMillis = recordDuration.totalTime(TimeUnit.MILLISECONDS);
+        if (count > state.sampledCount) {
+            state.recordMillis = (totalMillis - state.sampledTotalMillis) / (count - state.sampledCount);
+        }
+        state.sampledCount = count;
+        state.sampledTotalMillis = totalMillis;
+        return state.recordMillis;
+    }
+
+    private long getLag(MessageListenerContainer container) {
+        Collection<TopicPartition> assignedPartitions = container.getAssignedPartitions();
+        if (assignedPartitions == null) {
+            return 0L;
+        }
+        return assignedPartitions.stream().mapToLong(kafkaConsumerMetrics::getLag).sum();
+    }
+
+    private void apply(ConcurrentMessageListenerContainer<?, ?> container, ListenerState state, int maxPollRecords,
+                       int concurrency) {
+        // Containers of one factory share their consumer properties, each change gets its own copy.
+        Properties consumerProperties = new Properties();
+        consumerProperties.putAll(container.getContainerProperties().getKafkaConsumerProperties());
+        consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        boolean running = container.isRunning();
+        if (running) {
+            container.stop();
+        }
+        container.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+        container.setConcurrency(concurrency);
+        state.maxPollRecords = maxPollRecords;
+        if (running) {
+            container.start();
+        }
+    }
+
+    private Optional<ConcurrentMessageListenerContainer<?, ?>> findContainer(String listenerId) {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(listenerId);
+        return container instanceof ConcurrentMessageListenerContainer ?
+                Optional.of((ConcurrentMessageListenerContainer<?, ?>) container) : Optional.empty();
+    }
+
+    private ListenerState getState(MessageListenerContainer container) {
+        return listenerStates.computeIfAbsent(container.getListenerId(),
+                listenerId -> new ListenerState(kafkaConsumerConfigData.getMaxPollRecords()));
+    }
+
+    private ListenerTuningResponse toResponse(ConcurrentMessageListenerContainer<?, ?> container) {
+        ListenerState state = getState(container);
+        return ListenerTuningResponse.builder()
+                .listenerId(container.getListenerId())
+                .maxPollRecords(state.maxPollRecords)
+                .concurrency(container.getConcurrency())
+                .lag(getLag(container))
+                .recordMillis(state.recordMillis)
+                .pinned(state.pinned)
+                .build();
+    }
+
+    private static final class ListenerState {
+        private int maxPollRecords;
+        private boolean pinned;
+        private double recordMillis;
+        private double sampledCount;
+        private double sampledTotalMillis;
+
+        private ListenerState(int maxPollRecords) {
+            this.maxPollRecords = maxPollRecords;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.food.ordering.system.kafka.consumer.tuning;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/admin/kafka/listeners")
+@ConditionalOnProperty(prefix = "kafka-consumer-config", name = "adaptive-tuning-enabled", havingValue = "true")
+public class ListenerTuningController {
+    private final ListenerTuner listenerTuner;
+
+    public ListenerTuningController(ListenerTuner listenerTuner) {
+        this.listenerTuner = listenerTuner;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ListenerTuningResponse>> getListeners() {
+        return ResponseEntity.ok(listenerTuner.getListeners());
+    }
+
+    @PostMapping("/{listenerId}/pin")
+    public ResponseEntity<ListenerTuningResponse> pin(@PathVariable String listenerId,
+                                                      @RequestParam(required = false) Integer maxPollRecords,
+                                                      @RequestParam(required = false) Integer concurrency) {
+        if ((maxPollRecords != null && maxPollRecords <= 0) || (concurrency != null && concurrency <= 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("Pinning kafka listener {} to max.poll.records {} and concurrency {}.", listenerId, maxPollRecords,
+                concurrency);
+        return ResponseEntity.of(listenerTuner.pin(listenerId, maxPollRecords, concurrency));
+    }
+
+    @PostMapping("/{listenerId}/release")
+    public ResponseEntity<ListenerTuningResponse> release(@PathVariable String listenerId) {
+        log.info("Releasing kafka listener {} to adaptive tuning.", listenerId);
+        return ResponseEntity.of(listenerTuner.release(listenerId));
+    }
+}
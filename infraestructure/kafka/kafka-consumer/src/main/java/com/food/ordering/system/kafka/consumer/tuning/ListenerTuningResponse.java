@@ -0,0 +1,17 @@
+package com.food.ordering.system.kafka.consumer.tuning;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class ListenerTuningResponse {
+    private final String listenerId;
+    private final int maxPollRecords;
+    private final int concurrency;
+    private final long lag;
+    private final double recordMillis;
+    private final boolean pinned;
+}
@@ -0,0 +1,171 @@
+package com.food.ordering.system.kafka.consumer.dispatch;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.metrics.KafkaConsumerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class KeyOrderedBatchDispatcherTest {
+
+    private static final long NACK_SLEEP_MS = 1000L;
+    // With two lanes "a" lands on lane 1 and "b" on lane 0, so the lanes interleave in the batch.
+    private static final List<String> KEYS = List.of("a", "b", "a", "b", "a", "b");
+
+    private KafkaConsumerConfigData kafkaConsumerConfigData;
+    private KeyOrderedBatchDispatcher keyOrderedBatchDispatcher;
+    private Acknowledgment acknowledgment;
+    private List<Object> handled;
+
+    @BeforeEach
+    public void init() {
+        kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setParallelDispatchEnabled(true);
+        kafkaConsumerConfigData.setParallelDispatchPoolSize(2);
+        kafkaConsumerConfigData.setNackSleepMs(NACK_SLEEP_MS);
+        keyOrderedBatchDispatcher = new KeyOrderedBatchDispatcher(kafkaConsumerConfigData, Runnable::run,
+                new KafkaConsumerMetrics(new SimpleMeterRegistry()));
+        acknowledgment = mock(Acknowledgment.class);
+        handled = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    public void testAllRecordsSucceed() {
+        List<Object> messages = messages(KEYS.size());
+
+        keyOrderedBatchDispatcher.dispatch(messages, KEYS, acknowledgment, handled::add);
+
+        verify(acknowledgment).acknowledge();
+        verify(acknowledgment, never()).nack(anyInt(), anyLong());
+        assertEquals(List.of("m0", "m2", "m4"), recordsOfKey("a"));
+        assertEquals(List.of("m1", "m3", "m5"), recordsOfKey("b"));
+    }
+
+    @Test
+    public void testFailureNacksAtLowestFailedIndex() {
+        List<Object> messages = messages(KEYS.size());
+
+        keyOrderedBatchDispatcher.dispatch(messages, KEYS, acknowledgment, message -> {
+            if ("m3".equals(message) || "m4".equals(message)) {
+                throw new IllegalStateException("Failed " + message);
+            }
+            handled.add(message);
+        });
+
+        verify(acknowledgment).nack(3, NACK_SLEEP_MS);
+        verify(acknowledgment, never()).acknowledge();
+        assertEquals(List.of("m0", "m2"), recordsOfKey("a"));
+        assertEquals(List.of("m1"), recordsOfKey("b"));
+    }
+
+    @Test
+    public void testKafkaNullIsHandedToErrorHandler() {
+        List<Object> messages = messages(KEYS.size());
+        messages.set(3, KafkaNull.INSTANCE);
+
+        BatchListenerFailedException batchListenerFailedException = assertThrows(BatchListenerFailedException.class,
+                () -> keyOrderedBatchDispatcher.dispatch(messages, KEYS, acknowledgment, handled::add));
+
+        assertEquals(3, batchListenerFailedException.getIndex());
+        assertEquals(List.of("m0", "m1", "m2"), List.copyOf(handled).stream().sorted().toList());
+        verify(acknowledgment, never()).acknowledge();
+        verify(acknowledgment, never()).nack(anyInt(), anyLong());
+    }
+
+    @Test
+    public void testFailureIsHandedToErrorHandlerWithRetryTopics() {
+        kafkaConsumerConfigData.setRetryTopicsEnabled(true);
+        List<Object> messages = messages(KEYS.size());
+
+        BatchListenerFailedException batchListenerFailedException = assertThrows(BatchListenerFailedException.class,
+                () -> keyOrderedBatchDispatcher.dispatch(messages, KEYS, acknowledgment, message -> {
+                    if ("m2".equals(message)) {
+                        throw new IllegalStateException("Failed " + message);
+                    }
+                    handled.add(message);
+                }));
+
+        assertEquals(2, batchListenerFailedException.getIndex());
+        assertInstanceOf(IllegalStateException.class, batchListenerFailedException.getCause());
+        verify(acknowledgment, never()).acknowledge();
+        verify(acknowledgment, never()).nack(anyInt(), anyLong());
+    }
+
+    @Test
+    public void testGroupRecordFailureNacksAtThatRecord() {
+        List<Object> messages = messages(KEYS.size());
+
+        keyOrderedBatchDispatcher.dispatchGroups(messages, KEYS, acknowledgment, group -> {
+            if (group.contains("m0")) {
+                throw new GroupRecordFailedException(1, new IllegalStateException("Failed " + group.get(1)));
+            }
+            handled.addAll(group);
+        });
+
+        verify(acknowledgment).nack(2, NACK_SLEEP_MS);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    public void testGroupFailureNacksAtFirstRecordOfGroup() {
+        List<Object> messages = messages(KEYS.size());
+
+        keyOrderedBatchDispatcher.dispatchGroups(messages, KEYS, acknowledgment, group -> {
+            if (group.contains("m1")) {
+                throw new IllegalStateException("Failed group");
+            }
+            handled.addAll(group);
+        });
+
+        verify(acknowledgment).nack(1, NACK_SLEEP_MS);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    public void testFailureOnListenerThreadNacksAtFailedIndex() {
+        kafkaConsumerConfigData.setParallelDispatchEnabled(false);
+        List<Object> messages = messages(KEYS.size());
+
+        keyOrderedBatchDispatcher.dispatch(messages, KEYS, acknowledgment, message -> {
+            if ("m4".equals(message)) {
+                throw new IllegalStateException("Failed " + message);
+            }
+            handled.add(message);
+        });
+
+        verify(acknowledgment).nack(4, NACK_SLEEP_MS);
+        assertEquals(List.of("m0", "m1", "m2", "m3"), handled);
+    }
+
+    private static List<Object> messages(int count) {
+        List<Object> messages = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            messages.add("m" + index);
+        }
+        return messages;
+    }
+
+    private List<Object> recordsOfKey(String key) {
+        List<Object> records = new ArrayList<>();
+        for (Object message : handled) {
+            if (KEYS.get(Integer.parseInt(((String) message).substring(1))).equals(key)) {
+                records.add(message);
+            }
+        }
+        return records;
+    }
+}
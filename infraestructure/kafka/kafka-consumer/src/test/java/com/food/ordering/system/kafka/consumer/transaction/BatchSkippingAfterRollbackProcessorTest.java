@@ -0,0 +1,119 @@
+package com.food.ordering.system.kafka.consumer.transaction;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaResourceHolder;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchSkippingAfterRollbackProcessorTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final TopicPartition PARTITION_0 = new TopicPartition("payment-request", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("payment-request", 1);
+    private static final ConsumerGroupMetadata GROUP_METADATA = new ConsumerGroupMetadata("payment-group");
+
+    private ProducerFactory<String, String> producerFactory;
+    private Producer<String, String> producer;
+    private Consumer<String, String> consumer;
+    private MessageListenerContainer container;
+    private BatchSkippingAfterRollbackProcessor<String, String> processor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void init() {
+        producerFactory = mock(ProducerFactory.class);
+        producer = mock(Producer.class);
+        consumer = mock(Consumer.class);
+        container = mock(MessageListenerContainer.class);
+        when(consumer.groupMetadata()).thenReturn(GROUP_METADATA);
+        TransactionSynchronizationManager.bindResource(producerFactory,
+                new KafkaResourceHolder<>(producer, Duration.ofSeconds(1)));
+        processor = new BatchSkippingAfterRollbackProcessor<>(producerFactory, 0L, MAX_ATTEMPTS);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TransactionSynchronizationManager.unbindResource(producerFactory);
+    }
+
+    @Test
+    public void testFailedBatchIsRedeliveredFromItsFirstOffsets() {
+        List<ConsumerRecord<String, String>> batch = batch(10L);
+
+        process(batch);
+
+        verify(consumer).seek(PARTITION_0, 10L);
+        verify(consumer).seek(PARTITION_1, 20L);
+        verify(producer, never()).sendOffsetsToTransaction(any(), any(ConsumerGroupMetadata.class));
+    }
+
+    @Test
+    public void testBatchIsSkippedAfterMaxAttempts() {
+        List<ConsumerRecord<String, String>> batch = batch(10L);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            process(batch);
+        }
+
+        verify(consumer, times(MAX_ATTEMPTS - 1)).seek(PARTITION_0, 10L);
+        verify(producer).sendOffsetsToTransaction(Map.of(
+                PARTITION_0, new OffsetAndMetadata(12L),
+                PARTITION_1, new OffsetAndMetadata(21L)), GROUP_METADATA);
+    }
+
+    @Test
+    public void testAttemptsRestartForAnotherBatch() {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS - 1; attempt++) {
+            process(batch(10L));
+        }
+
+        process(batch(12L));
+
+        verify(consumer).seek(PARTITION_0, 12L);
+        verify(producer, never()).sendOffsetsToTransaction(any(), any(ConsumerGroupMetadata.class));
+    }
+
+    @Test
+    public void testSkippedBatchStartsCountingAgain() {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS + 1; attempt++) {
+            process(batch(10L));
+        }
+
+        verify(producer, times(1)).sendOffsetsToTransaction(any(), any(ConsumerGroupMetadata.class));
+        verify(consumer, times(MAX_ATTEMPTS)).seek(PARTITION_0, 10L);
+    }
+
+    private void process(List<ConsumerRecord<String, String>> batch) {
+        processor.process(batch, consumer, container, new IllegalStateException("failed"), false,
+                ContainerProperties.EOSMode.V2);
+    }
+
+    // Two records of partition 0 from the given offset, then one record of partition 1 at offset 20.
+    private List<ConsumerRecord<String, String>> batch(long firstOffset) {
+        return List.of(
+                new ConsumerRecord<>(PARTITION_0.topic(), PARTITION_0.partition(), firstOffset, "a", "m0"),
+                new ConsumerRecord<>(PARTITION_0.topic(), PARTITION_0.partition(), firstOffset + 1, "a", "m1"),
+                new ConsumerRecord<>(PARTITION_1.topic(), PARTITION_1.partition(), 20L, "b", "m2"));
+    }
+}
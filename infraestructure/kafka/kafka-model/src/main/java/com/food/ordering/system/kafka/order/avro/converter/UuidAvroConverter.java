@@ -0,0 +1,35 @@
+package com.food.ordering.system.kafka.order.avro.converter;
+
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Converts between {@link UUID} and the 16 byte big-endian {@link Uuid} fixed used by the v2 schemas.
+ */
+public final class UuidAvroConverter {
+
+    private UuidAvroConverter() {
+    }
+
+    public static Uuid toAvro(UUID uuid) {
+        return new Uuid(ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array());
+    }
+
+    public static Uuid toAvro(String uuid) {
+        return uuid == null || uuid.isEmpty() ? null : toAvro(UUID.fromString(uuid));
+    }
+
+    public static UUID fromAvro(Uuid uuid) {
+        ByteBuffer buffer = ByteBuffer.wrap(uuid.bytes());
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    public static String toString(Uuid uuid) {
+        return uuid == null ? "" : fromAvro(uuid).toString();
+    }
+}
@@ -1,11 +1,17 @@
 package com.food.ordering.system.kafka.producer;
 
+import com.food.ordering.system.kafka.producer.service.BatchSendResult;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedMessage;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Component
 public class KafkaMessageHelper {
@@ -17,21 +23,30 @@ public class KafkaMessageHelper {
         return new ListenableFutureCallback<SendResult<String, T>>() {
             @Override
             public void onFailure(Throwable ex) {
-                log.error("Error while sending {} message {} to topic {}.", avroModelName, avroModel.toString(),
+                log.error("Error while sending {} for order id: {} to topic {}.", avroModelName, orderId,
                         responseTopicName, ex);
             }
 
             @Override
             public void onSuccess(SendResult<String, T> result) {
-                RecordMetadata recordMetadata = result.getRecordMetadata();
-                log.info("Received successful response kafka from order id: {}" +
-                                " Topic: {} Partition {} Offset {} Timestamp {}",
-                        orderId,
-                        recordMetadata.topic(),
-                        recordMetadata.partition(),
-                        recordMetadata.offset(),
-                        recordMetadata.timestamp());
+                // Successful sends are logged, sampled, by KafkaProducerImpl.
             }
         };
     }
+
+    /**
+     * Sends all messages with {@link KafkaProducer#sendAll}, keyed by order id, and waits for the outcome of each.
+     *
+     * @return the indexes of the messages that could not be sent
+     */
+    public <T extends SpecificRecordBase> Set<Integer> sendAll(KafkaProducer<String, T> kafkaProducer,
+                                                               String topicName,
+                                                               List<KeyedMessage<String, T>> messages,
+                                                               String avroModelName) {
+        BatchSendResult<String, T> batchSendResult = kafkaProducer.sendAll(topicName, messages).join();
+        batchSendResult.getFailures().forEach((index, e) ->
+                log.error("Error while sending {} for order id: {} to topic {}.", avroModelName,
+                        messages.get(index).getKey(), topicName, e));
+        return batchSendResult.getFailures().keySet();
+    }
 }
@@ -3,27 +3,36 @@ package com.food.ordering.system.kafka.producer;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.producer.metrics.KafkaProducerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
 public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecordBase> {
     private final KafkaConfigData kafkaConfigData;
     private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final MeterRegistry meterRegistry;
 
     public KafkaProducerConfig(KafkaConfigData kafkaConfigData,
-                               KafkaProducerConfigData kafkaProducerConfigData) {
+                               KafkaProducerConfigData kafkaProducerConfigData,
+                               MeterRegistry meterRegistry) {
         this.kafkaConfigData = kafkaConfigData;
         this.kafkaProducerConfigData = kafkaProducerConfigData;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
@@ -31,6 +40,10 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
         props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+        props.putAll(kafkaConfigData.getSchemaRegistryProperties());
+        if (kafkaConfigData.getValueSubjectNameStrategy() != null) {
+            props.put(kafkaConfigData.getValueSubjectNameStrategyKey(), kafkaConfigData.getValueSubjectNameStrategy());
+        }
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getKeySerializerClass());
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getValueSerializerClass());
         props.put(ProducerConfig.BATCH_SIZE_CONFIG, kafkaProducerConfigData.getBatchSize() *
@@ -45,11 +58,29 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
 
     @Bean
     public ProducerFactory<K, V> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfig());
+        DefaultKafkaProducerFactory<K, V> producerFactory = new DefaultKafkaProducerFactory<>(producerConfig());
+        // Binds the client's own metrics (kafka.producer.*): byte and record rates, batch sizes, request latency.
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry,
+                List.of(Tag.of(KafkaProducerMetrics.PROFILE_TAG, KafkaProducerConfigData.DEFAULT_PROFILE))));
+        if (kafkaProducerConfigData.getTransactionalIdPrefix() != null) {
+            producerFactory.setTransactionIdPrefix(kafkaProducerConfigData.getTransactionalIdPrefix());
+        }
+        return producerFactory;
     }
 
     @Bean
     public KafkaTemplate<K, V> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        KafkaTemplate<K, V> kafkaTemplate = new KafkaTemplate<>(producerFactory());
+        // Sends outside a listener transaction, like order creation, keep using a non-transactional producer.
+        kafkaTemplate.setAllowNonTransactional(true);
+        kafkaProducerMetrics().bindBatchFillRatio(kafkaTemplate::metrics,
+                kafkaProducerConfigData.getBatchSize() * kafkaProducerConfigData.getBatchSizeBoostFactor());
+        return kafkaTemplate;
+    }
+
+    @Bean
+    public KafkaProducerMetrics kafkaProducerMetrics() {
+        return new KafkaProducerMetrics(meterRegistry,
+                Tags.of(KafkaProducerMetrics.PROFILE_TAG, KafkaProducerConfigData.DEFAULT_PROFILE));
     }
 }
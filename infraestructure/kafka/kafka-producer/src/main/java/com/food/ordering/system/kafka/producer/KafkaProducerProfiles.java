@@ -0,0 +1,101 @@
+package com.food.ordering.system.kafka.producer;
+
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData.ProducerProfile;
+import com.food.ordering.system.kafka.producer.metrics.KafkaProducerMetrics;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.impl.KafkaProducerImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Producers per latency class, configured under {@code kafka-producer-config.profiles}. Each profile gets its own
+ * producer client, so records of an {@code interactive} profile never wait in the batches of the default producer.
+ * Settings left out of a profile fall back to the shared ones. All profiles share the send permits of the default
+ * producer, so {@code max-in-flight-sends} stays one bound for the whole service.
+ * <p>
+ * With a {@code transactional-id-prefix} every profile resolves to the default producer, as only its factory is
+ * bound to the listener transactions.
+ */
+@Slf4j
+@Component
+public class KafkaProducerProfiles<K extends Serializable, V extends SpecificRecordBase> {
+
+    private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final ProducerFactory<K, V> producerFactory;
+    private final KafkaProducerImpl<K, V> kafkaProducer;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, KafkaProducerImpl<K, V>> profileKafkaProducers = new ConcurrentHashMap<>();
+
+    public KafkaProducerProfiles(KafkaProducerConfigData kafkaProducerConfigData,
+                                 ProducerFactory<K, V> producerFactory,
+                                 KafkaProducerImpl<K, V> kafkaProducer,
+                                 MeterRegistry meterRegistry) {
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
+        this.producerFactory = producerFactory;
+        this.kafkaProducer = kafkaProducer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public KafkaProducer<K, V> forProfile(String profileName) {
+        ProducerProfile producerProfile = kafkaProducerConfigData.getProfiles().get(profileName);
+        if (producerProfile == null) {
+            throw new IllegalStateException("No kafka producer profile " + profileName +
+                    " under kafka-producer-config.profiles");
+        }
+        if (kafkaProducerConfigData.getTransactionalIdPrefix() != null) {
+            return kafkaProducer;
+        }
+        return profileKafkaProducers.computeIfAbsent(profileName,
+                name -> createKafkaProducer(name, producerProfile));
+    }
+
+    @PreDestroy
+    public void close() {
+        profileKafkaProducers.values().forEach(KafkaProducerImpl::close);
+    }
+
+    private KafkaProducerImpl<K, V> createKafkaProducer(String profileName, ProducerProfile producerProfile) {
+        int batchSize = Objects.requireNonNullElse(producerProfile.getBatchSize(),
+                kafkaProducerConfigData.getBatchSize()) *
+                Objects.requireNonNullElse(producerProfile.getBatchSizeBoostFactor(),
+                        kafkaProducerConfigData.getBatchSizeBoostFactor());
+        int lingerMs = Objects.requireNonNullElse(producerProfile.getLingerMs(), kafkaProducerConfigData.getLingerMs());
+        String compressionType = Objects.requireNonNullElse(producerProfile.getCompressionType(),
+                kafkaProducerConfigData.getCompressionType());
+
+        Map<String, Object> props = new HashMap<>(producerFactory.getConfigurationProperties());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        DefaultKafkaProducerFactory<K, V> profileProducerFactory = new DefaultKafkaProducerFactory<>(props);
+        profileProducerFactory.addListener(new MicrometerProducerListener<>(meterRegistry,
+                List.of(Tag.of(KafkaProducerMetrics.PROFILE_TAG, profileName))));
+        KafkaTemplate<K, V> kafkaTemplate = new KafkaTemplate<>(profileProducerFactory);
+
+        KafkaProducerMetrics kafkaProducerMetrics = new KafkaProducerMetrics(meterRegistry,
+                Tags.of(KafkaProducerMetrics.PROFILE_TAG, profileName));
+        kafkaProducerMetrics.bindBatchFillRatio(kafkaTemplate::metrics, batchSize);
+        log.info("Kafka producer profile {} created with batch size {}, linger {} ms and {} compression",
+                profileName, batchSize, lingerMs, compressionType);
+        return new KafkaProducerImpl<>(kafkaTemplate, kafkaProducerMetrics, kafkaProducerConfigData,
+                kafkaProducer.getSendPermits());
+    }
+}
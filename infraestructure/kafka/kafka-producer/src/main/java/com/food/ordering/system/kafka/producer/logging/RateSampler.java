@@ -0,0 +1,41 @@
+package com.food.ordering.system.kafka.producer.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through at most {@code permitsPerSecond} events per one-second window and counts the rest, so a hot path
+ * can log a representative sample without paying for formatting and appender I/O on every event. Windows are
+ * reset lazily by the first caller of a new second; a lost race on the reset only lets a few extra events through.
+ */
+public class RateSampler {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int permitsPerSecond;
+    private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateSampler(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Returns -1 if the event should not be logged, otherwise the number of events suppressed since the last one
+     * that was let through.
+     */
+    public long tryAcquire() {
+        long currentWindow = System.nanoTime() / WINDOW_NANOS;
+        long lastWindow = window.get();
+        if (currentWindow != lastWindow && window.compareAndSet(lastWindow, currentWindow)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() > permitsPerSecond) {
+            suppressed.incrementAndGet();
+            return -1;
+        }
+        return suppressed.getAndSet(0);
+    }
+}
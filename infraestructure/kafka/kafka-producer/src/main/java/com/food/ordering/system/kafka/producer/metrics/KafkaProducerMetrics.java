@@ -0,0 +1,137 @@
+package com.food.ordering.system.kafka.producer.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Send-side meters of {@code KafkaProducerImpl}: latency from {@code send} until the broker acknowledged the record,
+ * per topic and outcome, the serialized size of sent records, the number of sends still in flight and errors per
+ * topic and exception, and the state of the send permit gate: free permits, callers waiting for one and sends
+ * turned away. Byte and record
+ * rates of the producer client itself are bound separately through spring-kafka's {@code MicrometerProducerListener}.
+ * <p>
+ * One instance per producer profile, all meters carry the given tags, so profiles share meter names.
+ */
+public class KafkaProducerMetrics {
+
+    public static final String PROFILE_TAG = "profile";
+    private static final String TOPIC_TAG = "topic";
+
+    private final MeterRegistry meterRegistry;
+    private final Tags tags;
+    private final AtomicInteger inFlightSends = new AtomicInteger();
+    private final Map<String, Timer> successfulSends = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failedSends = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> recordBytes = new ConcurrentHashMap<>();
+    private final Map<String, Counter> sendErrors = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectedSends = new ConcurrentHashMap<>();
+
+    public KafkaProducerMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, Tags.empty());
+    }
+
+    public KafkaProducerMetrics(MeterRegistry meterRegistry, Tags tags) {
+        this.meterRegistry = meterRegistry;
+        this.tags = tags;
+        Gauge.builder("kafka.producer.in.flight", inFlightSends, AtomicInteger::get)
+                .description("Records handed to the producer and not yet acknowledged")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    public long sendStarted() {
+        return sendStarted(1);
+    }
+
+    public long sendStarted(int records) {
+        inFlightSends.addAndGet(records);
+        return System.nanoTime();
+    }
+
+    public long sendSucceeded(String topic, long startNanos, RecordMetadata recordMetadata) {
+        inFlightSends.decrementAndGet();
+        long durationNanos = System.nanoTime() - startNanos;
+        successfulSends.computeIfAbsent(topic, key -> sendTimer(key, "success"))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        recordBytes.computeIfAbsent(topic, key -> DistributionSummary.builder("kafka.producer.record.bytes")
+                        .description("Serialized key and value size of sent records")
+                        .baseUnit("bytes")
+                        .tags(tags)
+                        .tag(TOPIC_TAG, key)
+                        .register(meterRegistry))
+                .record(Math.max(recordMetadata.serializedKeySize(), 0) +
+                        Math.max(recordMetadata.serializedValueSize(), 0));
+        return durationNanos;
+    }
+
+    public void sendFailed(String topic, long startNanos, Throwable cause) {
+        inFlightSends.decrementAndGet();
+        failedSends.computeIfAbsent(topic, key -> sendTimer(key, "failure"))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        sendErrors.computeIfAbsent(topic + '/' + cause.getClass().getSimpleName(), key ->
+                Counter.builder("kafka.producer.send.errors")
+                        .description("Records the producer failed to send")
+                        .tags(tags)
+                        .tags(TOPIC_TAG, topic, "exception", cause.getClass().getSimpleName())
+                        .register(meterRegistry)).increment();
+    }
+
+    public void sendRejected(String topic) {
+        rejectedSends.computeIfAbsent(topic, key -> Counter.builder("kafka.producer.send.rejected")
+                .description("Sends turned away because no send permit was free in time")
+                .tags(tags)
+                .tag(TOPIC_TAG, key)
+                .register(meterRegistry)).increment();
+    }
+
+    public void bindSendPermits(Semaphore sendPermits) {
+        Gauge.builder("kafka.producer.send.permits.available", sendPermits, Semaphore::availablePermits)
+                .description("Send permits not held by an in-flight record")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("kafka.producer.send.waiting", sendPermits, Semaphore::getQueueLength)
+                .description("Callers blocked waiting for a send permit")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Average filled share of {@code batch.size} per producer batch, read from the client's {@code batch-size-avg}
+     * when scraped. A low ratio under load means batches are closed by {@code linger.ms} rather than by size.
+     */
+    public void bindBatchFillRatio(Supplier<Map<MetricName, ? extends Metric>> producerMetrics, int batchSize) {
+        Gauge.builder("kafka.producer.batch.fill.ratio", producerMetrics, metrics -> metrics.get().entrySet().stream()
+                        .filter(entry -> "batch-size-avg".equals(entry.getKey().name()) &&
+                                "producer-metrics".equals(entry.getKey().group()))
+                        .mapToDouble(entry -> ((Number) entry.getValue().metricValue()).doubleValue() / batchSize)
+                        .filter(Double::isFinite)
+                        .findFirst()
+                        .orElse(Double.NaN))
+                .description("Average batch size as a share of the configured batch.size")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private Timer sendTimer(String topic, String outcome) {
+        return Timer.builder("kafka.producer.send.latency")
+                .description("Time from send until the broker acknowledged the record")
+                .tags(tags)
+                .tags(TOPIC_TAG, topic, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
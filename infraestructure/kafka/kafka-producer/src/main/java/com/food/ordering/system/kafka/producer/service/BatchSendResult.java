@@ -0,0 +1,23 @@
+package com.food.ordering.system.kafka.producer.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Outcome of {@link KafkaProducer#sendAll}, in the order the messages were passed. {@code results} holds
+ * {@code null} at the index of every failed message, and {@code failures} maps those indexes to their cause.
+ */
+@Getter
+@AllArgsConstructor
+public class BatchSendResult<K, V> {
+    private final List<SendResult<K, V>> results;
+    private final SortedMap<Integer, Exception> failures;
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
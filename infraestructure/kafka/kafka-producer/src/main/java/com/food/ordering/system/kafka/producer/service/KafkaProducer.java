@@ -5,7 +5,33 @@ import org.springframework.kafka.support.SendResult;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 public interface KafkaProducer<K extends Serializable, V extends SpecificRecordBase> {
     void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback);
+
+    /**
+     * Sends only if a send permit is free right away, and returns whether the message was handed to the producer.
+     */
+    boolean trySend(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback);
+
+    /**
+     * Waits up to {@code timeout} for a send permit, and returns whether the message was handed to the producer.
+     */
+    boolean trySend(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback,
+                    long timeout, TimeUnit unit);
+
+    /**
+     * Waits up to {@code timeout} for a send permit without taking it, for callers that decide whether to accept
+     * work before anything is sent. A timeout counts as a rejected send to {@code topicName}.
+     */
+    boolean awaitSendPermit(String topicName, long timeout, TimeUnit unit);
+
+    /**
+     * Hands all messages to the producer in one go. The returned future completes once every message has been
+     * acknowledged or has failed, and never exceptionally: failures are reported by index in the result.
+     */
+    CompletableFuture<BatchSendResult<K, V>> sendAll(String topicName, List<KeyedMessage<K, V>> messages);
 }
@@ -0,0 +1,13 @@
+package com.food.ordering.system.kafka.producer.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class KeyedMessage<K, V> {
+    private final K key;
+    private final V message;
+}
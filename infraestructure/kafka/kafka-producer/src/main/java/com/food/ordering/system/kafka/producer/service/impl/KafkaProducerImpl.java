@@ -1,39 +1,154 @@
 package com.food.ordering.system.kafka.producer.service.impl;
 
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.producer.logging.RateSampler;
+import com.food.ordering.system.kafka.producer.metrics.KafkaProducerMetrics;
+import com.food.ordering.system.kafka.producer.service.BatchSendResult;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
-import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import javax.annotation.PreDestroy;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Sends are measured through {@link KafkaProducerMetrics} and logged as sampled key=value lines, at most
+ * {@code send-log-samples-per-second} per outcome, each carrying the number of sends left out since the previous
+ * line. Message payloads are never logged, formatting an Avro record costs more than sending it.
+ * <p>
+ * Every record holds one of {@code max-in-flight-sends} permits from the moment it is handed to the producer until
+ * the broker acknowledged it or it failed. {@code send} and {@code sendAll} wait for a permit, the {@code trySend}
+ * variants give up at once or after a timeout, so callers can shed load before the producer's buffer fills up and
+ * blocks them for up to {@code max.block.ms}. The producers of {@link
+ * com.food.ordering.system.kafka.producer.KafkaProducerProfiles} take their permits from the same gate, so
+ * {@code max-in-flight-sends} bounds the records in flight across all profiles.
+ */
 @Slf4j
 @Component
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K,V> {
 
     private final KafkaTemplate<K,V> kafkaTemplate;
+    private final KafkaProducerMetrics kafkaProducerMetrics;
+    private final Semaphore sendPermits;
+    private final RateSampler successLogSampler;
+    private final RateSampler failureLogSampler;
 
-    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate) {
+    @Autowired
+    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate,
+                             KafkaProducerMetrics kafkaProducerMetrics,
+                             KafkaProducerConfigData kafkaProducerConfigData) {
+        this(kafkaTemplate, kafkaProducerMetrics, kafkaProducerConfigData,
+                new Semaphore(kafkaProducerConfigData.getMaxInFlightSends()));
+        kafkaProducerMetrics.bindSendPermits(sendPermits);
+    }
+
+    /**
+     * Creates a producer taking its send permits from the given gate, whose gauges are bound by its owner.
+     */
+    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate,
+                             KafkaProducerMetrics kafkaProducerMetrics,
+                             KafkaProducerConfigData kafkaProducerConfigData,
+                             Semaphore sendPermits) {
         this.kafkaTemplate = kafkaTemplate;
+        this.kafkaProducerMetrics = kafkaProducerMetrics;
+        this.sendPermits = sendPermits;
+        this.successLogSampler = new RateSampler(kafkaProducerConfigData.getSendLogSamplesPerSecond());
+        this.failureLogSampler = new RateSampler(kafkaProducerConfigData.getSendLogSamplesPerSecond());
     }
 
     @Override
     public void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback) {
-        log.info("Sending message {} to topic {}", message, topicName);
+        acquireSendPermit(topicName);
+        doSend(topicName, key, message, callback);
+    }
+
+    @Override
+    public boolean trySend(String topicName, K key, V message,
+                           ListenableFutureCallback<SendResult<K, V>> callback) {
+        if (!sendPermits.tryAcquire()) {
+            kafkaProducerMetrics.sendRejected(topicName);
+            return false;
+        }
+        doSend(topicName, key, message, callback);
+        return true;
+    }
+
+    @Override
+    public boolean trySend(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback,
+                           long timeout, TimeUnit unit) {
+        if (!tryAcquireSendPermit(topicName, timeout, unit)) {
+            return false;
+        }
+        doSend(topicName, key, message, callback);
+        return true;
+    }
+
+    @Override
+    public boolean awaitSendPermit(String topicName, long timeout, TimeUnit unit) {
+        if (!tryAcquireSendPermit(topicName, timeout, unit)) {
+            return false;
+        }
+        sendPermits.release();
+        return true;
+    }
+
+    public Semaphore getSendPermits() {
+        return sendPermits;
+    }
+
+    @Override
+    public CompletableFuture<BatchSendResult<K, V>> sendAll(String topicName, List<KeyedMessage<K, V>> messages) {
+        List<ProducerRecord<K, V>> records = new ArrayList<>(messages.size());
+        messages.forEach(message -> records.add(new ProducerRecord<>(topicName, message.getKey(),
+                message.getMessage())));
+        BatchSend batchSend = new BatchSend(topicName, records);
         try {
-            ListenableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(topicName, key, message);
-            kafkaResultFuture.addCallback(callback);
-        } catch (KafkaException kafkaException){
-            log.error("Error on kafka producer with key {}, message {} and exception {}", key, message, kafkaException.getMessage());
-            throw new KafkaException("Error on kafka producer with key " + key + " and message " + message);
+            kafkaTemplate.execute(producer -> {
+                for (ProducerRecord<K, V> producerRecord : records) {
+                    int index = batchSend.sent++;
+                    try {
+                        acquireSendPermit(topicName);
+                    } catch (KafkaException kafkaException) {
+                        batchSend.recordCompleted(index, null, kafkaException);
+                        continue;
+                    }
+                    try {
+                        producer.send(producerRecord, batchSend.new RecordCallback(index));
+                    } catch (RuntimeException e) {
+                        sendPermits.release();
+                        batchSend.recordCompleted(index, null, e);
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // No producer could be obtained: fail whatever was not handed over.
+            for (int index = batchSend.sent; index < records.size(); index++) {
+                batchSend.recordCompleted(index, null, e);
+            }
         }
+        batchSend.recordCompleted(-1, null, null);
+        return batchSend.result;
     }
 
     @PreDestroy
@@ -43,4 +158,190 @@ public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordB
             kafkaTemplate.destroy();
         }
     }
+
+    private void doSend(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback) {
+        SendCallback sendCallback = new SendCallback(topicName, key, callback);
+        try {
+            kafkaTemplate.send(topicName, key, message).addCallback(sendCallback);
+        } catch (RuntimeException e) {
+            // Immediate failures are usually reported to the callback as well, which then already let go of the permit.
+            sendCallback.failed(e);
+            log.error("Error on kafka producer with key {} to topic {}", key, topicName, e);
+            throw new KafkaException("Error on kafka producer with key " + key + " to topic " + topicName, e);
+        }
+    }
+
+    private void acquireSendPermit(String topicName) {
+        try {
+            sendPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while waiting for a send permit for topic " + topicName, e);
+        }
+    }
+
+    private boolean tryAcquireSendPermit(String topicName, long timeout, TimeUnit unit) {
+        try {
+            if (!sendPermits.tryAcquire(timeout, unit)) {
+                kafkaProducerMetrics.sendRejected(topicName);
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while waiting for a send permit for topic " + topicName, e);
+        }
+    }
+
+    private void logSent(RecordMetadata recordMetadata, K key, long durationNanos) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        long suppressed = successLogSampler.tryAcquire();
+        if (suppressed >= 0) {
+            log.info("event=kafka_send_succeeded topic={} partition={} offset={} key={} latency_ms={} suppressed={}",
+                    recordMetadata.topic(), recordMetadata.partition(), recordMetadata.offset(), key,
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos), suppressed);
+        }
+    }
+
+    private void logBatchCompleted(BatchSendResult<K, V> batchSendResult, String topicName, long startNanos) {
+        int records = batchSendResult.getResults().size();
+        if (batchSendResult.hasFailures()) {
+            long suppressed = failureLogSampler.tryAcquire();
+            if (suppressed >= 0) {
+                Integer firstFailedIndex = batchSendResult.getFailures().firstKey();
+                log.error("event=kafka_send_all_failed topic={} records={} failed={} first_failed_index={} " +
+                                "suppressed={}", topicName, records, batchSendResult.getFailures().size(),
+                        firstFailedIndex, suppressed, batchSendResult.getFailures().get(firstFailedIndex));
+            }
+        } else if (log.isInfoEnabled()) {
+            long suppressed = successLogSampler.tryAcquire();
+            if (suppressed >= 0) {
+                log.info("event=kafka_send_all_succeeded topic={} records={} latency_ms={} suppressed={}",
+                        topicName, records, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                        suppressed);
+            }
+        }
+    }
+
+    private void logFailed(String topicName, K key, Throwable ex) {
+        long suppressed = failureLogSampler.tryAcquire();
+        if (suppressed >= 0) {
+            log.error("event=kafka_send_failed topic={} key={} suppressed={}", topicName, key, suppressed, ex);
+        }
+    }
+
+    private final class SendCallback implements ListenableFutureCallback<SendResult<K, V>> {
+        private final String topicName;
+        private final K key;
+        private final ListenableFutureCallback<SendResult<K, V>> callback;
+        private final long startNanos;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private SendCallback(String topicName, K key, ListenableFutureCallback<SendResult<K, V>> callback) {
+            this.topicName = topicName;
+            this.key = key;
+            this.callback = callback;
+            this.startNanos = kafkaProducerMetrics.sendStarted();
+        }
+
+        @Override
+        public void onSuccess(SendResult<K, V> result) {
+            completed.set(true);
+            sendPermits.release();
+            RecordMetadata recordMetadata = result.getRecordMetadata();
+            long durationNanos = kafkaProducerMetrics.sendSucceeded(topicName, startNanos, recordMetadata);
+            logSent(recordMetadata, key, durationNanos);
+            callback.onSuccess(result);
+        }
+
+        @Override
+        public void onFailure(Throwable ex) {
+            if (failed(ex)) {
+                logFailed(topicName, key, ex);
+            }
+            callback.onFailure(ex);
+        }
+
+        private boolean failed(Throwable ex) {
+            if (!completed.compareAndSet(false, true)) {
+                return false;
+            }
+            sendPermits.release();
+            kafkaProducerMetrics.sendFailed(topicName, startNanos, ex);
+            return true;
+        }
+    }
+
+    /**
+     * Completion state of one {@link #sendAll} call. The caller holds one extra pending count while it is still
+     * handing records to the producer, as callbacks of early records can fire before the last one is sent.
+     */
+    private final class BatchSend {
+        private final String topicName;
+        private final List<ProducerRecord<K, V>> records;
+        private final RecordMetadata[] recordMetadata;
+        private final Exception[] exceptions;
+        private final AtomicInteger pending;
+        private final long startNanos;
+        private final CompletableFuture<BatchSendResult<K, V>> result = new CompletableFuture<>();
+        // Only touched by the sending thread.
+        private int sent;
+
+        private BatchSend(String topicName, List<ProducerRecord<K, V>> records) {
+            this.topicName = topicName;
+            this.records = records;
+            this.recordMetadata = new RecordMetadata[records.size()];
+            this.exceptions = new Exception[records.size()];
+            this.pending = new AtomicInteger(records.size() + 1);
+            this.startNanos = kafkaProducerMetrics.sendStarted(records.size());
+        }
+
+        // index -1 releases the count held by the sending thread.
+        private void recordCompleted(int index, RecordMetadata metadata, Exception exception) {
+            if (index >= 0) {
+                recordMetadata[index] = metadata;
+                exceptions[index] = exception;
+                if (exception == null) {
+                    kafkaProducerMetrics.sendSucceeded(topicName, startNanos, metadata);
+                } else {
+                    kafkaProducerMetrics.sendFailed(topicName, startNanos, exception);
+                }
+            }
+            if (pending.decrementAndGet() == 0) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            List<SendResult<K, V>> results = new ArrayList<>(records.size());
+            SortedMap<Integer, Exception> failures = new TreeMap<>();
+            for (int index = 0; index < records.size(); index++) {
+                if (exceptions[index] == null) {
+                    results.add(new SendResult<>(records.get(index), recordMetadata[index]));
+                } else {
+                    results.add(null);
+                    failures.put(index, exceptions[index]);
+                }
+            }
+            BatchSendResult<K, V> batchSendResult = new BatchSendResult<>(results, failures);
+            logBatchCompleted(batchSendResult, topicName, startNanos);
+            result.complete(batchSendResult);
+        }
+
+        private final class RecordCallback implements Callback {
+            private final int index;
+
+            private RecordCallback(int index) {
+                this.index = index;
+            }
+
+            @Override
+            public void onCompletion(RecordMetadata metadata, Exception exception) {
+                sendPermits.release();
+                recordCompleted(index, metadata, exception);
+            }
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package com.food.ordering.system.kafka.schema.resolver;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads schema registry wire format records, resolving the writer schema id against {@link LocalSchemaRegistry}
+ * and the reader schema from the generated class of the same full name.
+ */
+public class LocalAvroDeserializer implements Deserializer<SpecificRecordBase> {
+
+    private final Map<Integer, SpecificDatumReader<SpecificRecordBase>> readers = new ConcurrentHashMap<>();
+    private LocalSchemaRegistry localSchemaRegistry;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        localSchemaRegistry = LocalSchemaRegistry.forUrl(
+                (String) configs.get(LocalSchemaRegistry.SCHEMA_REGISTRY_URL_CONFIG));
+    }
+
+    @Override
+    public SpecificRecordBase deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.get() != LocalAvroSerializer.MAGIC_BYTE) {
+            throw new SerializationException("Unknown magic byte in message for topic " + topic);
+        }
+        int id = buffer.getInt();
+        try {
+            return readers.computeIfAbsent(id, this::createReader).read(null,
+                    DecoderFactory.get().binaryDecoder(data, buffer.position(), buffer.remaining(), null));
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error deserializing Avro message with schema id " + id +
+                    " for topic " + topic, e);
+        }
+    }
+
+    private SpecificDatumReader<SpecificRecordBase> createReader(int id) {
+        Schema writerSchema = localSchemaRegistry.getSchema(id);
+        Class<?> recordClass = SpecificData.get().getClass(writerSchema);
+        if (recordClass == null || !SpecificRecordBase.class.isAssignableFrom(recordClass)) {
+            throw new SerializationException("No generated record class for schema " + writerSchema.getFullName());
+        }
+        return new SpecificDatumReader<>(writerSchema, SpecificData.get().getSchema(recordClass),
+                SpecificData.getForClass(recordClass));
+    }
+}
@@ -0,0 +1,58 @@
+package com.food.ordering.system.kafka.schema.resolver;
+
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes records in the schema registry wire format (magic byte, 4 byte schema id, Avro binary body) with ids from
+ * {@link LocalSchemaRegistry}, so no registry call is made on the send path.
+ */
+public class LocalAvroSerializer implements Serializer<SpecificRecordBase> {
+
+    static final byte MAGIC_BYTE = 0x0;
+
+    private final Map<Class<?>, RecordWriter> writers = new ConcurrentHashMap<>();
+    private LocalSchemaRegistry localSchemaRegistry;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        localSchemaRegistry = LocalSchemaRegistry.forUrl(
+                (String) configs.get(LocalSchemaRegistry.SCHEMA_REGISTRY_URL_CONFIG));
+    }
+
+    @Override
+    public byte[] serialize(String topic, SpecificRecordBase data) {
+        if (data == null) {
+            return null;
+        }
+        RecordWriter recordWriter = writers.computeIfAbsent(data.getClass(), recordClass ->
+                new RecordWriter(localSchemaRegistry.getId(data.getSchema()), new SpecificDatumWriter<>(data.getSchema(),
+                        data.getSpecificData())));
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(MAGIC_BYTE);
+            out.write(recordWriter.id >>> 24);
+            out.write(recordWriter.id >>> 16);
+            out.write(recordWriter.id >>> 8);
+            out.write(recordWriter.id);
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            recordWriter.datumWriter.write(data, encoder);
+            encoder.flush();
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error serializing Avro message for topic " + topic, e);
+        }
+    }
+
+    private record RecordWriter(int id, SpecificDatumWriter<SpecificRecordBase> datumWriter) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.food.ordering.system.kafka.schema.resolver;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for the schema registry, selected with a {@code local://<id cache file>} schema registry url.
+ * All generated records under {@link #MODEL_PACKAGE} are registered when the registry is first opened. Ids are
+ * kept in the cache file, so every service on the host that points at the same file gets the same ids.
+ * Processes serialize their writes to the file with a file lock.
+ */
+@Slf4j
+public final class LocalSchemaRegistry {
+
+    public static final String URL_PREFIX = "local://";
+    public static final String SCHEMA_REGISTRY_URL_CONFIG = "schema.registry.url";
+    public static final String MODEL_PACKAGE = "com.food.ordering.system.kafka";
+
+    private static final Map<Path, LocalSchemaRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+    private final Path idCachePath;
+    private final Map<Long, Integer> idsByFingerprint = new ConcurrentHashMap<>();
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+
+    private LocalSchemaRegistry(Path idCachePath) {
+        this.idCachePath = idCachePath;
+        List<Schema> schemas = loadModelSchemas();
+        register(schemas);
+        log.info("Local schema registry at {} loaded with {} schemas", idCachePath, schemas.size());
+    }
+
+    public static boolean isLocalUrl(String schemaRegistryUrl) {
+        return schemaRegistryUrl != null && schemaRegistryUrl.startsWith(URL_PREFIX);
+    }
+
+    public static LocalSchemaRegistry forUrl(String schemaRegistryUrl) {
+        if (!isLocalUrl(schemaRegistryUrl)) {
+            throw new IllegalArgumentException("Schema registry url " + schemaRegistryUrl + " does not start with " +
+                    URL_PREFIX);
+        }
+        Path idCachePath = Path.of(schemaRegistryUrl.substring(URL_PREFIX.length())).toAbsolutePath().normalize();
+        return REGISTRIES.computeIfAbsent(idCachePath, LocalSchemaRegistry::new);
+    }
+
+    public int getId(Schema schema) {
+        long fingerprint = SchemaNormalization.parsingFingerprint64(schema);
+        Integer id = idsByFingerprint.get(fingerprint);
+        if (id == null) {
+            register(List.of(schema));
+            id = idsByFingerprint.get(fingerprint);
+        }
+        return id;
+    }
+
+    public Schema getSchema(int id) {
+        Schema schema = schemasById.get(id);
+        if (schema == null) {
+            register(List.of());
+            schema = schemasById.get(id);
+            if (schema == null) {
+                throw new SerializationException("Schema id " + id + " is not in local schema registry " +
+                        idCachePath);
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Merges the ids already in the cache file, which other processes may have added, then gives the schemas that
+     * are still unknown the next free ids in full name order.
+     */
+    private synchronized void register(Collection<Schema> schemas) {
+        try {
+            Files.createDirectories(idCachePath.getParent());
+            try (FileChannel channel = FileChannel.open(idCachePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Properties ids = read(channel);
+                int maxId = 0;
+                for (String key : ids.stringPropertyNames()) {
+                    int id = Integer.parseInt(key);
+                    Schema schema = new Schema.Parser().parse(ids.getProperty(key));
+                    idsByFingerprint.put(SchemaNormalization.parsingFingerprint64(schema), id);
+                    schemasById.put(id, schema);
+                    maxId = Math.max(maxId, id);
+                }
+
+                List<Schema> newSchemas = new ArrayList<>();
+                for (Schema schema : schemas) {
+                    if (!idsByFingerprint.containsKey(SchemaNormalization.parsingFingerprint64(schema))) {
+                        newSchemas.add(schema);
+                    }
+                }
+                if (newSchemas.isEmpty()) {
+                    return;
+                }
+                newSchemas.sort(Comparator.comparing(Schema::getFullName));
+                for (Schema schema : newSchemas) {
+                    int id = ++maxId;
+                    ids.setProperty(String.valueOf(id), schema.toString());
+                    idsByFingerprint.put(SchemaNormalization.parsingFingerprint64(schema), id);
+                    schemasById.put(id, schema);
+                }
+                write(channel, ids);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not update local schema registry " + idCachePath, e);
+        }
+    }
+
+    private static List<Schema> loadModelSchemas() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(SpecificRecordBase.class));
+        List<Schema> schemas = new ArrayList<>();
+        for (BeanDefinition beanDefinition : scanner.findCandidateComponents(MODEL_PACKAGE)) {
+            try {
+                Class<?> recordClass = Class.forName(beanDefinition.getBeanClassName(), false,
+                        LocalSchemaRegistry.class.getClassLoader());
+                schemas.add(SpecificData.get().getSchema(recordClass));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Could not load record class " + beanDefinition.getBeanClassName(), e);
+            }
+        }
+        return schemas;
+    }
+
+    private static Properties read(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(buffer.array()));
+        return properties;
+    }
+
+    private static void write(FileChannel channel, Properties properties) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        properties.store(out, "Local schema registry ids");
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        channel.truncate(0);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, buffer.position());
+        }
+        channel.force(false);
+    }
+}
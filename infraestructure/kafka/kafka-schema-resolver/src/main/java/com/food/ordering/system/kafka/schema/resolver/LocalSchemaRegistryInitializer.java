@@ -0,0 +1,27 @@
+package com.food.ordering.system.kafka.schema.resolver;
+
+import com.food.ordering.system.kafka.config.data.KafkaConfigData;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Opens the local schema registry at startup when it is configured, so the first message does not pay for the
+ * classpath scan and id cache file read.
+ */
+@Component
+public class LocalSchemaRegistryInitializer {
+
+    private final KafkaConfigData kafkaConfigData;
+
+    public LocalSchemaRegistryInitializer(KafkaConfigData kafkaConfigData) {
+        this.kafkaConfigData = kafkaConfigData;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (LocalSchemaRegistry.isLocalUrl(kafkaConfigData.getSchemaRegistryUrl())) {
+            LocalSchemaRegistry.forUrl(kafkaConfigData.getSchemaRegistryUrl());
+        }
+    }
+}
@@ -3,8 +3,11 @@ package com.food.ordering.system.order.service.application.exception.handler;
 import com.food.ordering.system.common.exception.handler.ErrorDTO;
 import com.food.ordering.system.common.exception.handler.GlobalExceptionHandler;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderIdempotencyKeyMismatchException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.exception.OrderServiceBusyException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -34,4 +37,27 @@ public class OrderGlobalExceptionHandler extends GlobalExceptionHandler {
                 .message(orderNotFoundException.getMessage())
                 .build());
     }
+
+    @ResponseBody
+    @ExceptionHandler
+    public ResponseEntity<ErrorDTO> handleOrderIdempotencyKeyMismatchException(
+            OrderIdempotencyKeyMismatchException orderIdempotencyKeyMismatchException){
+        log.error(orderIdempotencyKeyMismatchException.getMessage(), orderIdempotencyKeyMismatchException);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(ErrorDTO.builder()
+                .code(HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase())
+                .message(orderIdempotencyKeyMismatchException.getMessage())
+                .build());
+    }
+
+    @ResponseBody
+    @ExceptionHandler
+    public ResponseEntity<ErrorDTO> handleOrderServiceBusyException(OrderServiceBusyException orderServiceBusyException){
+        log.warn(orderServiceBusyException.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ErrorDTO.builder()
+                        .code(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                        .message(orderServiceBusyException.getMessage())
+                        .build());
+    }
 }
@@ -1,39 +1,131 @@
 package com.food.ordering.system.order.service.application.rest;
 
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 @Slf4j
 @RestController
 @RequestMapping(value = "/orders", produces = "application/vnd.api.v1+json")
 public class OrderController {
     private final OrderApplicationService orderApplicationService;
+    private final OrderServiceConfigData orderServiceConfigData;
 
-    public OrderController(OrderApplicationService orderApplicationService) {
+    public OrderController(OrderApplicationService orderApplicationService,
+                           OrderServiceConfigData orderServiceConfigData) {
         this.orderApplicationService = orderApplicationService;
+        this.orderServiceConfigData = orderServiceConfigData;
     }
 
     @PostMapping
-    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderCommand createOrderCommand){
+    public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderCommand createOrderCommand,
+                                                           @RequestHeader(value = "Idempotency-Key", required = false)
+                                                           String idempotencyKey){
         log.info("Creating order for customer {} at restaurant {}.", createOrderCommand.getCustomerId(),
                 createOrderCommand.getRestaurantId());
-        CreateOrderResponse orderResponse = orderApplicationService.createOrder(createOrderCommand);
+        CreateOrderResponse orderResponse = orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
         log.info("Order created with tracking id: {}", orderResponse.getOrderTrackingId());
         return ResponseEntity.ok(orderResponse);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<CreateOrderResponse>> createOrders(@RequestBody List<CreateOrderCommand> createOrderCommands){
+        log.info("Creating batch of {} orders.", createOrderCommands.size());
+        List<CreateOrderResponse> orderResponses = orderApplicationService.createOrders(createOrderCommands);
+        log.info("{} orders created.", orderResponses.size());
+        return ResponseEntity.ok(orderResponses);
+    }
+
     @GetMapping("/{trackingId}")
     public ResponseEntity<TrackOrderResponse> trackOrder(@PathVariable UUID trackingId){
         TrackOrderResponse trackOrderResponse = orderApplicationService.trackOrder(TrackOrderQuery.builder().orderTrackingId(trackingId).build());
         log.info("Returning order with trackingId {}.", trackOrderResponse.getOrderTrackingId());
         return ResponseEntity.ok(trackOrderResponse);
     }
+
+    @GetMapping(value = "/{trackingId}", params = "waitForChange")
+    public DeferredResult<ResponseEntity<TrackOrderResponse>> waitForOrderStatusChange(@PathVariable UUID trackingId,
+                                                                                       @RequestParam OrderStatus waitForChange){
+        TrackOrderQuery trackOrderQuery = TrackOrderQuery.builder().orderTrackingId(trackingId).build();
+        DeferredResult<ResponseEntity<TrackOrderResponse>> deferredResult =
+                new DeferredResult<>(orderServiceConfigData.getOrderStatusLongPollTimeoutMs());
+        Consumer<TrackOrderResponse> subscriber = trackOrderResponse -> {
+            if (trackOrderResponse.getOrderStatus() != waitForChange) {
+                deferredResult.setResult(ResponseEntity.ok(trackOrderResponse));
+            }
+        };
+        // Subscribe before reading the current status so a transition in between is not lost.
+        orderApplicationService.subscribeToOrderStatus(trackOrderQuery, subscriber);
+        deferredResult.onCompletion(() -> orderApplicationService.unsubscribeFromOrderStatus(trackOrderQuery, subscriber));
+        deferredResult.onTimeout(() -> deferredResult.setResult(
+                ResponseEntity.ok(orderApplicationService.trackOrder(trackOrderQuery))));
+        subscriber.accept(trackOrderWithSubscription(trackOrderQuery, subscriber));
+        return deferredResult;
+    }
+
+    @GetMapping(value = "/{trackingId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter orderStatusEvents(@PathVariable UUID trackingId){
+        TrackOrderQuery trackOrderQuery = TrackOrderQuery.builder().orderTrackingId(trackingId).build();
+        SseEmitter sseEmitter = new SseEmitter(orderServiceConfigData.getOrderStatusEventsTimeoutMs());
+        // Pushed statuses race with the one read below: send each status once and never an older one after it.
+        AtomicReference<OrderStatus> sentOrderStatus = new AtomicReference<>();
+        Consumer<TrackOrderResponse> subscriber = trackOrderResponse -> {
+            synchronized (sentOrderStatus) {
+                OrderStatus orderStatus = trackOrderResponse.getOrderStatus();
+                if (sentOrderStatus.get() == null || orderStatus.compareTo(sentOrderStatus.get()) > 0) {
+                    sentOrderStatus.set(orderStatus);
+                    sendOrderStatus(sseEmitter, trackOrderResponse);
+                }
+            }
+        };
+        orderApplicationService.subscribeToOrderStatus(trackOrderQuery, subscriber);
+        Runnable unsubscribe = () -> orderApplicationService.unsubscribeFromOrderStatus(trackOrderQuery, subscriber);
+        sseEmitter.onCompletion(unsubscribe);
+        sseEmitter.onTimeout(unsubscribe);
+        sseEmitter.onError(e -> unsubscribe.run());
+        subscriber.accept(trackOrderWithSubscription(trackOrderQuery, subscriber));
+        log.info("Streaming status events of order with trackingId {}.", trackingId);
+        return sseEmitter;
+    }
+
+    private TrackOrderResponse trackOrderWithSubscription(TrackOrderQuery trackOrderQuery,
+                                                          Consumer<TrackOrderResponse> subscriber) {
+        try {
+            return orderApplicationService.trackOrder(trackOrderQuery);
+        } catch (RuntimeException e) {
+            orderApplicationService.unsubscribeFromOrderStatus(trackOrderQuery, subscriber);
+            throw e;
+        }
+    }
+
+    private void sendOrderStatus(SseEmitter sseEmitter, TrackOrderResponse trackOrderResponse) {
+        try {
+            sseEmitter.send(SseEmitter.event()
+                    .name("order-status")
+                    .data(trackOrderResponse, MediaType.APPLICATION_JSON));
+            if (trackOrderResponse.getOrderStatus() == OrderStatus.APPROVED ||
+                    trackOrderResponse.getOrderStatus() == OrderStatus.CANCELLED) {
+                sseEmitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Status event stream of order with trackingId {} is closed.", trackOrderResponse.getOrderTrackingId());
+            sseEmitter.completeWithError(e);
+        }
+    }
 }
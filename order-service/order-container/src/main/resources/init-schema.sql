@@ -58,4 +58,38 @@ ALTER TABLE "order".order_address
     REFERENCES "order".orders (id) MATCH SIMPLE
     ON UPDATE NO ACTION
     ON DELETE CASCADE
-    NOT VALID;
\ No newline at end of file
+    NOT VALID;
+
+DROP TYPE IF EXISTS outbox_event_type;
+CREATE TYPE outbox_event_type AS ENUM ('ORDER_CREATED', 'ORDER_PAID', 'ORDER_CANCELLED');
+
+DROP TABLE IF EXISTS "order".order_outbox CASCADE;
+
+CREATE TABLE "order".order_outbox
+(
+    id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    event_type outbox_event_type NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT order_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX "order_outbox_created_at"
+    ON "order".order_outbox
+    (created_at);
+
+DROP TABLE IF EXISTS "order".order_idempotency_keys CASCADE;
+
+CREATE TABLE "order".order_idempotency_keys
+(
+    idempotency_key character varying COLLATE pg_catalog."default" NOT NULL,
+    request_hash character varying COLLATE pg_catalog."default" NOT NULL,
+    order_tracking_id uuid NOT NULL,
+    order_status order_status NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT order_idempotency_keys_pkey PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX "order_idempotency_keys_created_at"
+    ON "order".order_idempotency_keys
+    (created_at);
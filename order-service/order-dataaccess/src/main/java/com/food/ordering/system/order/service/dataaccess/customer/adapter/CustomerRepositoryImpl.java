@@ -6,8 +6,10 @@ import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class CustomerRepositoryImpl implements CustomerRepository {
@@ -24,4 +26,11 @@ public class CustomerRepositoryImpl implements CustomerRepository {
     public Optional<Customer> findById(UUID customerId) {
         return customerJpaRepository.findById(customerId).map(customerDataAccessMapper::customerEntityToCustomer);
     }
+
+    @Override
+    public List<Customer> findByIds(List<UUID> customerIds) {
+        return customerJpaRepository.findAllById(customerIds).stream()
+                .map(customerDataAccessMapper::customerEntityToCustomer)
+                .collect(Collectors.toList());
+    }
 }
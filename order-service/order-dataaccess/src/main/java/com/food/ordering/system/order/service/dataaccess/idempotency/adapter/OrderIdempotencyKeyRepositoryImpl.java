@@ -0,0 +1,41 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.idempotency.mapper.OrderIdempotencyKeyDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.idempotency.repository.OrderIdempotencyKeyJpaRepository;
+import com.food.ordering.system.order.service.domain.idempotency.model.OrderIdempotencyKey;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyKeyRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+@Component
+public class OrderIdempotencyKeyRepositoryImpl implements OrderIdempotencyKeyRepository {
+
+    private final OrderIdempotencyKeyJpaRepository orderIdempotencyKeyJpaRepository;
+    private final OrderIdempotencyKeyDataAccessMapper orderIdempotencyKeyDataAccessMapper;
+
+    public OrderIdempotencyKeyRepositoryImpl(OrderIdempotencyKeyJpaRepository orderIdempotencyKeyJpaRepository,
+                                             OrderIdempotencyKeyDataAccessMapper orderIdempotencyKeyDataAccessMapper) {
+        this.orderIdempotencyKeyJpaRepository = orderIdempotencyKeyJpaRepository;
+        this.orderIdempotencyKeyDataAccessMapper = orderIdempotencyKeyDataAccessMapper;
+    }
+
+    @Override
+    public OrderIdempotencyKey save(OrderIdempotencyKey orderIdempotencyKey) {
+        return orderIdempotencyKeyDataAccessMapper.orderIdempotencyKeyEntityToOrderIdempotencyKey(
+                orderIdempotencyKeyJpaRepository.save(orderIdempotencyKeyDataAccessMapper
+                        .orderIdempotencyKeyToOrderIdempotencyKeyEntity(orderIdempotencyKey)));
+    }
+
+    @Override
+    public Optional<OrderIdempotencyKey> findByIdempotencyKey(String idempotencyKey) {
+        return orderIdempotencyKeyJpaRepository.findById(idempotencyKey)
+                .map(orderIdempotencyKeyDataAccessMapper::orderIdempotencyKeyEntityToOrderIdempotencyKey);
+    }
+
+    @Override
+    public void deleteCreatedBefore(ZonedDateTime createdAt) {
+        orderIdempotencyKeyJpaRepository.deleteCreatedBefore(createdAt);
+    }
+}
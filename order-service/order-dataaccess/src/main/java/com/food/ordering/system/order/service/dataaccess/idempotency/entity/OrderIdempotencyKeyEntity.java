@@ -0,0 +1,50 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "order_idempotency_keys")
+@Entity
+public class OrderIdempotencyKeyEntity implements Persistable<String> {
+    @Id
+    private String idempotencyKey;
+    private String requestHash;
+    private UUID orderTrackingId;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private ZonedDateTime createdAt;
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderIdempotencyKeyEntity that = (OrderIdempotencyKeyEntity) o;
+        return Objects.equals(idempotencyKey, that.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idempotencyKey);
+    }
+}
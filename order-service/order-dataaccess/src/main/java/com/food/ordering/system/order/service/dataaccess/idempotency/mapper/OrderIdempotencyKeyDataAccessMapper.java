@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyKeyEntity;
+import com.food.ordering.system.order.service.domain.idempotency.model.OrderIdempotencyKey;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderIdempotencyKeyDataAccessMapper {
+
+    public OrderIdempotencyKeyEntity orderIdempotencyKeyToOrderIdempotencyKeyEntity(OrderIdempotencyKey orderIdempotencyKey) {
+        return OrderIdempotencyKeyEntity.builder()
+                .idempotencyKey(orderIdempotencyKey.getIdempotencyKey())
+                .requestHash(orderIdempotencyKey.getRequestHash())
+                .orderTrackingId(orderIdempotencyKey.getOrderTrackingId())
+                .orderStatus(orderIdempotencyKey.getOrderStatus())
+                .createdAt(orderIdempotencyKey.getCreatedAt())
+                .build();
+    }
+
+    public OrderIdempotencyKey orderIdempotencyKeyEntityToOrderIdempotencyKey(OrderIdempotencyKeyEntity orderIdempotencyKeyEntity) {
+        return OrderIdempotencyKey.builder()
+                .idempotencyKey(orderIdempotencyKeyEntity.getIdempotencyKey())
+                .requestHash(orderIdempotencyKeyEntity.getRequestHash())
+                .orderTrackingId(orderIdempotencyKeyEntity.getOrderTrackingId())
+                .orderStatus(orderIdempotencyKeyEntity.getOrderStatus())
+                .createdAt(orderIdempotencyKeyEntity.getCreatedAt())
+                .build();
+    }
+}
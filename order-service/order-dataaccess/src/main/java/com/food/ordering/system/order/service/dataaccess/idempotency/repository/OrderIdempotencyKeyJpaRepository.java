@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.repository;
+
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+
+@Repository
+public interface OrderIdempotencyKeyJpaRepository extends JpaRepository<OrderIdempotencyKeyEntity, String> {
+
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKeyEntity k WHERE k.createdAt < :createdAt")
+    void deleteCreatedBefore(@Param("createdAt") ZonedDateTime createdAt);
+
+}
@@ -1,23 +1,39 @@
 package com.food.ordering.system.order.service.dataaccess.order.adapter;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class OrderRepositoryImpl implements OrderRepository {
+    private static final String UPDATE_STATUS_SQL = "UPDATE \"order\".orders SET order_status = ?, failure_messages = ? " +
+            "WHERE id = ? AND order_status = ?";
+
     private final OrderJpaRepository orderJpaRepository;
     private final OrderDataAccessMapper orderDataAccessMapper;
+    private final JdbcTemplate jdbcTemplate;
 
-    public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository, OrderDataAccessMapper orderDataAccessMapper) {
+    public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository, OrderDataAccessMapper orderDataAccessMapper,
+                               JdbcTemplate jdbcTemplate) {
         this.orderJpaRepository = orderJpaRepository;
         this.orderDataAccessMapper = orderDataAccessMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -25,13 +41,82 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderDataAccessMapper.orderEntityToOrder(orderJpaRepository.save(orderDataAccessMapper.orderToOrderEntity(order)));
     }
 
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        List<OrderEntity> orderEntities = orders.stream().map(order -> {
+            OrderEntity orderEntity = orderDataAccessMapper.orderToOrderEntity(order);
+            orderEntity.setNewEntity(true);
+            return orderEntity;
+        }).collect(Collectors.toList());
+        return orderJpaRepository.saveAll(orderEntities).stream()
+                .map(orderDataAccessMapper::orderEntityToOrder)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean updateStatus(Order order, OrderStatus expectedStatus) {
+        return orderJpaRepository.updateStatus(order.getId().getValue(),
+                order.getOrderStatus(),
+                orderDataAccessMapper.orderToFailureMessages(order),
+                expectedStatus) == 1;
+    }
+
+    @Override
+    public Set<OrderId> updateStatuses(List<Order> orders, Map<OrderId, OrderStatus> expectedStatuses) {
+        if (orders.isEmpty()) {
+            return Set.of();
+        }
+        int[] updateCounts = Arrays.stream(jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, orders, orders.size(),
+                        (preparedStatement, order) -> {
+                            preparedStatement.setString(1, order.getOrderStatus().name());
+                            preparedStatement.setString(2, orderDataAccessMapper.orderToFailureMessages(order));
+                            preparedStatement.setObject(3, order.getId().getValue());
+                            preparedStatement.setString(4, expectedStatuses.get(order.getId()).name());
+                        }))
+                .flatMapToInt(Arrays::stream)
+                .toArray();
+        Set<OrderId> updatedOrderIds = new HashSet<>();
+        for (int i = 0; i < orders.size(); i++) {
+            if (updateCounts[i] == 1) {
+                updatedOrderIds.add(orders.get(i).getId());
+            }
+        }
+        return updatedOrderIds;
+    }
+
     @Override
     public Optional<Order> findById(OrderId orderId) {
         return orderJpaRepository.findById(orderId.getValue()).map(orderDataAccessMapper::orderEntityToOrder);
     }
 
+    @Override
+    public List<Order> findAllById(List<OrderId> orderIds) {
+        return orderJpaRepository.findAllWithItemsAndAddressByIdIn(orderIds.stream()
+                        .map(OrderId::getValue)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(orderDataAccessMapper::orderEntityToOrder)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Order> findByTrackingId(TrackingId trackingId) {
         return orderJpaRepository.findByTrackingId(trackingId.getValue()).map(orderDataAccessMapper::orderEntityToOrder);
     }
+
+    @Override
+    public Optional<TrackOrderResponse> findStatusByTrackingId(TrackingId trackingId) {
+        return orderJpaRepository.findStatusViewByTrackingId(trackingId.getValue())
+                .map(orderDataAccessMapper::orderStatusViewToTrackOrderResponse);
+    }
+
+    @Override
+    public List<TrackOrderResponse> findAllStatusesByTrackingId(List<TrackingId> trackingIds) {
+        return orderJpaRepository.findStatusViewsByTrackingIdIn(trackingIds.stream()
+                        .map(TrackingId::getValue)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(orderDataAccessMapper::orderStatusViewToTrackOrderResponse)
+                .collect(Collectors.toList());
+    }
 }
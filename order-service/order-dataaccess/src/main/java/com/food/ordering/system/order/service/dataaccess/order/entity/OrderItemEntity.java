@@ -12,7 +12,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "order_item")
+@Table(name = "order_items")
 @IdClass(OrderItemEntityId.class)
 @Entity
 public class OrderItemEntity {
@@ -4,6 +4,8 @@ import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderStatusView;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
@@ -30,7 +32,7 @@ public class OrderDataAccessMapper {
                 .price(order.getPrice().getAmount())
                 .items(orderItemsToOrderEntityItems(order.getItems()))
                 .orderStatus(order.getOrderStatus())
-                .failureMessages(Objects.nonNull(order.getFailureMessages()) ? String.join(",", order.getFailureMessages()) : "")
+                .failureMessages(orderToFailureMessages(order))
                 .build();
         orderEntity.getAddress().setOrder(orderEntity);
         orderEntity.getItems().forEach(orderItemEntity -> orderItemEntity.setOrder(orderEntity));
@@ -38,6 +40,18 @@ public class OrderDataAccessMapper {
         return orderEntity;
     }
 
+    public String orderToFailureMessages(Order order) {
+        return Objects.nonNull(order.getFailureMessages()) ? String.join(",", order.getFailureMessages()) : "";
+    }
+
+    public TrackOrderResponse orderStatusViewToTrackOrderResponse(OrderStatusView orderStatusView) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(orderStatusView.getTrackingId())
+                .orderStatus(orderStatusView.getOrderStatus())
+                .failureMessages(Arrays.stream(orderStatusView.getFailureMessages().split(",")).toList())
+                .build();
+    }
+
     public Order orderEntityToOrder(OrderEntity orderEntity){
         return Order.Builder.builder()
                 .id(new OrderId(orderEntity.getId()))
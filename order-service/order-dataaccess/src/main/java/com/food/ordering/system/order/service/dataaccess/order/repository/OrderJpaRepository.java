@@ -1,15 +1,50 @@
 package com.food.ordering.system.order.service.dataaccess.order.repository;
 
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
+    @Override
+    @EntityGraph(attributePaths = {"items", "address"})
+    Optional<OrderEntity> findById(UUID id);
+
+    @EntityGraph(attributePaths = {"items", "address"})
     Optional<OrderEntity> findByTrackingId(UUID trackingId);
 
+    @EntityGraph(attributePaths = {"items", "address"})
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    @Query("SELECT DISTINCT o FROM OrderEntity o WHERE o.id IN :ids")
+    List<OrderEntity> findAllWithItemsAndAddressByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE OrderEntity o SET o.orderStatus = :orderStatus, o.failureMessages = :failureMessages " +
+            "WHERE o.id = :id AND o.orderStatus = :expectedStatus")
+    int updateStatus(@Param("id") UUID id,
+                     @Param("orderStatus") OrderStatus orderStatus,
+                     @Param("failureMessages") String failureMessages,
+                     @Param("expectedStatus") OrderStatus expectedStatus);
+
+    @Query("SELECT o.trackingId AS trackingId, o.orderStatus AS orderStatus, o.failureMessages AS failureMessages " +
+            "FROM OrderEntity o WHERE o.trackingId = :trackingId")
+    Optional<OrderStatusView> findStatusViewByTrackingId(@Param("trackingId") UUID trackingId);
+
+    @Query("SELECT o.trackingId AS trackingId, o.orderStatus AS orderStatus, o.failureMessages AS failureMessages " +
+            "FROM OrderEntity o WHERE o.trackingId IN :trackingIds")
+    List<OrderStatusView> findStatusViewsByTrackingIdIn(@Param("trackingIds") Collection<UUID> trackingIds);
+
 }
@@ -0,0 +1,13 @@
+package com.food.ordering.system.order.service.dataaccess.order.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.util.UUID;
+
+public interface OrderStatusView {
+    UUID getTrackingId();
+
+    OrderStatus getOrderStatus();
+
+    String getFailureMessages();
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.mapper.OrderOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.repository.OrderOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
+
+    private final OrderOutboxJpaRepository orderOutboxJpaRepository;
+    private final OrderOutboxDataAccessMapper orderOutboxDataAccessMapper;
+
+    public OrderOutboxRepositoryImpl(OrderOutboxJpaRepository orderOutboxJpaRepository,
+                                     OrderOutboxDataAccessMapper orderOutboxDataAccessMapper) {
+        this.orderOutboxJpaRepository = orderOutboxJpaRepository;
+        this.orderOutboxDataAccessMapper = orderOutboxDataAccessMapper;
+    }
+
+    @Override
+    public OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage) {
+        return orderOutboxDataAccessMapper.orderOutboxEntityToOrderOutboxMessage(orderOutboxJpaRepository
+                .save(orderOutboxDataAccessMapper.orderOutboxMessageToOrderOutboxEntity(orderOutboxMessage)));
+    }
+
+    @Override
+    public List<OrderOutboxMessage> saveAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        return orderOutboxJpaRepository.saveAll(orderOutboxMessages.stream()
+                        .map(orderOutboxDataAccessMapper::orderOutboxMessageToOrderOutboxEntity)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OrderOutboxMessage> findPendingAndLock(int batchSize) {
+        return orderOutboxJpaRepository.findPendingAndLock(batchSize).stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteByIds(List<UUID> ids) {
+        orderOutboxJpaRepository.deleteAllByIdInBatch(ids);
+    }
+}
@@ -0,0 +1,44 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.entity;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "order_outbox")
+@Entity
+public class OrderOutboxEntity implements Persistable<UUID> {
+    @Id
+    private UUID id;
+    private UUID orderId;
+    @Enumerated(EnumType.STRING)
+    private OrderOutboxEventType eventType;
+    private ZonedDateTime createdAt;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderOutboxEntity that = (OrderOutboxEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,27 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.entity.OrderOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderOutboxDataAccessMapper {
+
+    public OrderOutboxEntity orderOutboxMessageToOrderOutboxEntity(OrderOutboxMessage orderOutboxMessage) {
+        return OrderOutboxEntity.builder()
+                .id(orderOutboxMessage.getId())
+                .orderId(orderOutboxMessage.getOrderId())
+                .eventType(orderOutboxMessage.getEventType())
+                .createdAt(orderOutboxMessage.getCreatedAt())
+                .build();
+    }
+
+    public OrderOutboxMessage orderOutboxEntityToOrderOutboxMessage(OrderOutboxEntity orderOutboxEntity) {
+        return OrderOutboxMessage.builder()
+                .id(orderOutboxEntity.getId())
+                .orderId(orderOutboxEntity.getOrderId())
+                .eventType(orderOutboxEntity.getEventType())
+                .createdAt(orderOutboxEntity.getCreatedAt())
+                .build();
+    }
+}
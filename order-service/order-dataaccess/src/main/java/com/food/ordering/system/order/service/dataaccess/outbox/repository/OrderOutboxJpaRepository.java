@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.repository;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.entity.OrderOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntity, UUID> {
+
+    @Query(value = "SELECT * FROM \"order\".order_outbox ORDER BY created_at LIMIT :batchSize FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OrderOutboxEntity> findPendingAndLock(@Param("batchSize") int batchSize);
+
+}
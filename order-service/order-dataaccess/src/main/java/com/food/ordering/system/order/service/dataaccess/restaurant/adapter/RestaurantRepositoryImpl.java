@@ -1,12 +1,15 @@
 package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
 
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
 import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantJpaRepository;
 import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class RestaurantRepositoryImpl implements RestaurantRepository {
@@ -25,4 +28,16 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
                 restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant)).
                 map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
     }
+
+    @Override
+    public List<Restaurant> findRestaurants(List<Restaurant> restaurants) {
+        return restaurantJpaRepository.findByRestaurantIdInAndProductIdIn(
+                        restaurants.stream().map(restaurant -> restaurant.getId().getValue()).collect(Collectors.toList()),
+                        restaurantDataAccessMapper.restaurantsToRestaurantProducts(restaurants))
+                .stream()
+                .collect(Collectors.groupingBy(RestaurantEntity::getRestaurantId))
+                .values().stream()
+                .map(restaurantDataAccessMapper::restaurantEntityToRestaurant)
+                .collect(Collectors.toList());
+    }
 }
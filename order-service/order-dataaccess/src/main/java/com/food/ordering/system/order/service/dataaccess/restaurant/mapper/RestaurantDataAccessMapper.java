@@ -22,6 +22,14 @@ public class RestaurantDataAccessMapper {
                 .collect(Collectors.toList());
     }
 
+    public List<UUID> restaurantsToRestaurantProducts(List<Restaurant> restaurants){
+        return restaurants.stream()
+                .flatMap(restaurant -> restaurant.getProducts().stream())
+                .map(product -> product.getId().getValue())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
     public Restaurant restaurantEntityToRestaurant(List<RestaurantEntity> restaurantEntities) {
         RestaurantEntity restaurantEntity  = restaurantEntities.stream().findFirst()
                 .orElseThrow(() -> new RestaurantDataAccessException("Restaurant not found!"));
@@ -0,0 +1,118 @@
+package com.food.ordering.system.order.service.dataaccess.order.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the local Postgres of the order service, whose schema is recreated from its init-schema.sql.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderJpaRepositoryTest {
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final UUID ORDER_ID = UUID.fromString("8924768a-4e7c-4a47-bd96-3c9ce9d818c1");
+    private final UUID SECOND_ORDER_ID = UUID.fromString("8924768a-4e7c-4a47-bd96-3c9ce9d818c2");
+    private final UUID TRACKING_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void init(){
+        testEntityManager.persist(createOrderEntity(ORDER_ID, TRACKING_ID));
+        testEntityManager.persist(createOrderEntity(SECOND_ORDER_ID, UUID.randomUUID()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindByIdLoadsAggregateInOneStatement(){
+        OrderEntity orderEntity = orderJpaRepository.findById(ORDER_ID).orElseThrow();
+
+        assertEquals(2, orderEntity.getItems().size());
+        assertEquals("Paris", orderEntity.getAddress().getCity());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindByTrackingIdLoadsAggregateInOneStatement(){
+        OrderEntity orderEntity = orderJpaRepository.findByTrackingId(TRACKING_ID).orElseThrow();
+
+        assertEquals(2, orderEntity.getItems().size());
+        assertEquals("Paris", orderEntity.getAddress().getCity());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindAllByIdLoadsAggregatesInOneStatement(){
+        List<OrderEntity> orderEntities =
+                orderJpaRepository.findAllWithItemsAndAddressByIdIn(List.of(ORDER_ID, SECOND_ORDER_ID));
+
+        assertEquals(2, orderEntities.size());
+        orderEntities.forEach(orderEntity -> {
+            assertEquals(2, orderEntity.getItems().size());
+            assertEquals("Paris", orderEntity.getAddress().getCity());
+        });
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private OrderEntity createOrderEntity(UUID orderId, UUID trackingId) {
+        OrderEntity orderEntity = OrderEntity.builder()
+                .id(orderId)
+                .customerId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .trackingId(trackingId)
+                .price(new BigDecimal("200.00"))
+                .orderStatus(OrderStatus.PENDING)
+                .failureMessages("")
+                .address(OrderAddressEntity.builder()
+                        .id(UUID.randomUUID())
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .items(List.of(createOrderItemEntity(1L, 1, "50.00"), createOrderItemEntity(2L, 3, "150.00")))
+                .build();
+        orderEntity.getAddress().setOrder(orderEntity);
+        orderEntity.getItems().forEach(orderItemEntity -> orderItemEntity.setOrder(orderEntity));
+        return orderEntity;
+    }
+
+    private OrderItemEntity createOrderItemEntity(Long id, int quantity, String subTotal) {
+        return OrderItemEntity.builder()
+                .id(id)
+                .productId(UUID.randomUUID())
+                .price(new BigDecimal("50.00"))
+                .quantity(quantity)
+                .subTotal(new BigDecimal(subTotal))
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class OrderLookupExecutorConfig {
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public OrderLookupExecutorConfig(OrderServiceConfigData orderServiceConfigData) {
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    // Saturation falls back to running the lookup on the request thread, i.e. the sequential path.
+    @Bean
+    public ThreadPoolTaskExecutor orderLookupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(orderServiceConfigData.getLookupExecutorPoolSize());
+        executor.setMaxPoolSize(orderServiceConfigData.getLookupExecutorPoolSize());
+        executor.setQueueCapacity(orderServiceConfigData.getLookupExecutorQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("order-lookup-");
+        return executor;
+    }
+}
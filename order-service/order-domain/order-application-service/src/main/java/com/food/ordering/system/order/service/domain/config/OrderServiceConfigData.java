@@ -12,4 +12,17 @@ public class OrderServiceConfigData {
     private String paymentResponseTopicName;
     private String RestaurantApprovalRequestTopicName;
     private String RestaurantApprovalResponseTopicName;
+    private Integer outboxRelayBatchSize;
+    private Long createOrderPublishTimeoutMs;
+    private Integer createOrdersMaxBatchSize;
+    private Boolean parallelLookupsEnabled;
+    private Integer lookupExecutorPoolSize;
+    private Integer lookupExecutorQueueCapacity;
+    private Long idempotencyKeyTtlMinutes;
+    private Integer idempotencyKeyCacheMaxSize;
+    private Boolean idempotencyKeyPersistenceEnabled;
+    private Long orderStatusEventsTimeoutMs;
+    private Long orderStatusLongPollTimeoutMs;
+    private Integer orderStatusNotificationPoolSize;
+    private Integer orderStatusNotificationQueueCapacity;
 }
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class OrderStatusNotificationExecutorConfig {
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public OrderStatusNotificationExecutorConfig(OrderServiceConfigData orderServiceConfigData) {
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    // Keeps slow status stream clients off the saga listener threads; saturation slows the notifying thread down.
+    @Bean
+    public ThreadPoolTaskExecutor orderStatusNotificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(orderServiceConfigData.getOrderStatusNotificationPoolSize());
+        executor.setMaxPoolSize(orderServiceConfigData.getOrderStatusNotificationPoolSize());
+        executor.setQueueCapacity(orderServiceConfigData.getOrderStatusNotificationQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("order-status-notification-");
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Like {@code @Size(max = ...)}, with the maximum read from {@code order-service.create-orders-max-batch-size}.
+ */
+@Documented
+@Constraint(validatedBy = MaxCreateOrderBatchSizeValidator.class)
+@Target({ElementType.PARAMETER, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxCreateOrderBatchSize {
+
+    String message() default "size must be at most {max}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,27 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.util.Collection;
+
+public class MaxCreateOrderBatchSizeValidator implements ConstraintValidator<MaxCreateOrderBatchSize, Collection<?>> {
+
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public MaxCreateOrderBatchSizeValidator(OrderServiceConfigData orderServiceConfigData) {
+        this.orderServiceConfigData = orderServiceConfigData;
+    }
+
+    @Override
+    public boolean isValid(Collection<?> value, ConstraintValidatorContext context) {
+        int max = orderServiceConfigData.getCreateOrdersMaxBatchSize();
+        if (value == null || value.size() <= max) {
+            return true;
+        }
+        context.unwrap(HibernateConstraintValidatorContext.class).addMessageParameter("max", max);
+        return false;
+    }
+}
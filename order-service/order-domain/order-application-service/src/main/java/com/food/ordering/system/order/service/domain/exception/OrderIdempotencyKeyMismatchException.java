@@ -0,0 +1,7 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+public class OrderIdempotencyKeyMismatchException extends OrderDomainException {
+    public OrderIdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+/**
+ * A response of a batch could not be applied. Every response before {@code failedIndex} in the batch has been
+ * applied, the ones after it may have been.
+ */
+public class OrderResponseBatchException extends OrderDomainException {
+    private final int failedIndex;
+
+    public OrderResponseBatchException(String message, int failedIndex, Throwable cause) {
+        super(message, cause);
+        this.failedIndex = failedIndex;
+    }
+
+    public int getFailedIndex() {
+        return failedIndex;
+    }
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+/**
+ * An order was turned away because its messages could not be published in time. Nothing has been stored, the
+ * request can be retried.
+ */
+public class OrderServiceBusyException extends OrderDomainException {
+    public OrderServiceBusyException(String message) {
+        super(message);
+    }
+}
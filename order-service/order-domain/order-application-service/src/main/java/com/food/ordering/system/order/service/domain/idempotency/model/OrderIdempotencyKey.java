@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.idempotency.model;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderIdempotencyKey {
+    private final String idempotencyKey;
+    private final String requestHash;
+    private final UUID orderTrackingId;
+    private final OrderStatus orderStatus;
+    private final ZonedDateTime createdAt;
+}
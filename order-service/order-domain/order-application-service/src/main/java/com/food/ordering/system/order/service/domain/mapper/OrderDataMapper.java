@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
+import com.food.ordering.system.domain.id.DomainIds;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.ProductId;
@@ -12,10 +13,22 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.idempotency.model.OrderIdempotencyKey;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,11 +42,26 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public List<Restaurant> createOrderCommandsToRestaurants(List<CreateOrderCommand> createOrderCommands) {
+        Map<UUID, Set<UUID>> productIdsByRestaurant = new LinkedHashMap<>();
+        createOrderCommands.forEach(createOrderCommand -> createOrderCommand.getItems().forEach(item ->
+                productIdsByRestaurant.computeIfAbsent(createOrderCommand.getRestaurantId(), id -> new LinkedHashSet<>())
+                        .add(item.getProductId())));
+        return productIdsByRestaurant.entrySet().stream()
+                .map(entry -> Restaurant.Builder.builder()
+                        .id(new RestaurantId(entry.getKey()))
+                        .products(entry.getValue().stream()
+                                .map(productId -> new Product(new ProductId(productId)))
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     public Order createOrderCommandToOrder(CreateOrderCommand createOrderCommand){
         return Order.Builder.builder()
                 .customerId(new CustomerId(createOrderCommand.getCustomerId()))
                 .restaurantId(new RestaurantId((createOrderCommand.getRestaurantId())))
-                .price(new Money(createOrderCommand.getPrice()))
+                .price(toMoney(createOrderCommand.getPrice()))
                 .deliveryAddress(mapOrderAddressToDeliveryAddress(createOrderCommand.getAddress()))
                 .items(mapOrderItemsToOrderItemsEntities(createOrderCommand.getItems()))
                 .build();
@@ -47,6 +75,51 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public OrderIdempotencyKey orderToOrderIdempotencyKey(String idempotencyKey, String requestHash, Order order,
+                                                          ZonedDateTime createdAt) {
+        return OrderIdempotencyKey.builder()
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .orderTrackingId(order.getTrackingId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .createdAt(createdAt)
+                .build();
+    }
+
+    /**
+     * SHA-256 over the fields of the command, with amounts stripped of trailing zeros so 10.0 and 10.00 match.
+     */
+    public String createOrderCommandToRequestHash(CreateOrderCommand createOrderCommand) {
+        StringBuilder request = new StringBuilder()
+                .append(createOrderCommand.getCustomerId()).append('|')
+                .append(createOrderCommand.getRestaurantId()).append('|')
+                .append(toPlainString(createOrderCommand.getPrice()));
+        createOrderCommand.getItems().forEach(orderItem -> request.append('|')
+                .append(orderItem.getProductId()).append(',')
+                .append(orderItem.getQuantity()).append(',')
+                .append(toPlainString(orderItem.getPrice())).append(',')
+                .append(toPlainString(orderItem.getSubTotal())));
+        OrderAddress orderAddress = createOrderCommand.getAddress();
+        // Free text is length-prefixed so no separator inside it can make two requests look alike.
+        for (String text : List.of(orderAddress.getStreet(), orderAddress.getPostalCode(), orderAddress.getCity())) {
+            request.append('|').append(text.length()).append(':').append(text);
+        }
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(request.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public CreateOrderResponse orderIdempotencyKeyToCreateOrderResponse(OrderIdempotencyKey orderIdempotencyKey) {
+        return CreateOrderResponse.builder()
+                .orderTrackingId(orderIdempotencyKey.getOrderTrackingId())
+                .orderStatus(orderIdempotencyKey.getOrderStatus())
+                .message("Order created successfully.")
+                .build();
+    }
+
     public TrackOrderResponse orderToTrackOrderResponse(Order order){
         return TrackOrderResponse.builder()
                 .orderTrackingId(order.getTrackingId().getValue())
@@ -63,12 +136,24 @@ public class OrderDataMapper {
         return OrderItem.Builder.builder()
                 .product(new Product(new ProductId(orderItem.getProductId())))
                 .quantity(orderItem.getQuantity().intValue())
-                .price(new Money(orderItem.getPrice()))
-                .subTotal(new Money(orderItem.getSubTotal()))
+                .price(toMoney(orderItem.getPrice()))
+                .subTotal(toMoney(orderItem.getSubTotal()))
                 .build();
     }
 
     private StreetAddress mapOrderAddressToDeliveryAddress(OrderAddress address) {
-        return new StreetAddress(UUID.randomUUID(), address.getStreet(), address.getPostalCode(), address.getCity());
+        return new StreetAddress(DomainIds.newId(), address.getStreet(), address.getPostalCode(), address.getCity());
+    }
+
+    private static Money toMoney(BigDecimal amount) {
+        try {
+            return new Money(amount);
+        } catch (ArithmeticException e) {
+            throw new OrderDomainException("Amount " + amount.toPlainString() + " is out of range", e);
+        }
+    }
+
+    private static String toPlainString(BigDecimal amount) {
+        return amount.stripTrailingZeros().toPlainString();
     }
 }
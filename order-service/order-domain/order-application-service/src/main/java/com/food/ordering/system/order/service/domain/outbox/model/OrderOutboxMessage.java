@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.outbox.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderOutboxMessage {
+    private final UUID id;
+    private final UUID orderId;
+    private final OrderOutboxEventType eventType;
+    private final ZonedDateTime createdAt;
+}
@@ -9,6 +9,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 @Slf4j
 @Validated
 @Service
@@ -16,10 +19,14 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
 
     private final OrderCreateCommandHandler orderCreateCommandHandler;
     private final OrderTrackCommandHandler orderTrackCommandHandler;
+    private final OrderStatusSubscriptionHelper orderStatusSubscriptionHelper;
 
-    OrderApplicationServiceImpl(OrderCreateCommandHandler orderCreateCommandHandler, OrderTrackCommandHandler orderTrackCommandHandler) {
+    OrderApplicationServiceImpl(OrderCreateCommandHandler orderCreateCommandHandler,
+                                OrderTrackCommandHandler orderTrackCommandHandler,
+                                OrderStatusSubscriptionHelper orderStatusSubscriptionHelper) {
         this.orderCreateCommandHandler = orderCreateCommandHandler;
         this.orderTrackCommandHandler = orderTrackCommandHandler;
+        this.orderStatusSubscriptionHelper = orderStatusSubscriptionHelper;
     }
 
     @Override
@@ -27,8 +34,28 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
         return orderCreateCommandHandler.createOrder(createOrderCommand);
     }
 
+    @Override
+    public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
+        return orderCreateCommandHandler.createOrder(createOrderCommand, idempotencyKey);
+    }
+
+    @Override
+    public List<CreateOrderResponse> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        return orderCreateCommandHandler.createOrders(createOrderCommands);
+    }
+
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return orderTrackCommandHandler.trackOrder(trackOrderQuery);
     }
+
+    @Override
+    public void subscribeToOrderStatus(TrackOrderQuery trackOrderQuery, Consumer<TrackOrderResponse> subscriber) {
+        orderStatusSubscriptionHelper.subscribe(trackOrderQuery.getOrderTrackingId(), subscriber);
+    }
+
+    @Override
+    public void unsubscribeFromOrderStatus(TrackOrderQuery trackOrderQuery, Consumer<TrackOrderResponse> subscriber) {
+        orderStatusSubscriptionHelper.unsubscribe(trackOrderQuery.getOrderTrackingId(), subscriber);
+    }
 }
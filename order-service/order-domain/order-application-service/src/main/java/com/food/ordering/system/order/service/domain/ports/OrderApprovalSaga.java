@@ -1,26 +1,42 @@
 package com.food.ordering.system.order.service.domain.ports;
 
 import com.food.ordering.system.domain.event.EmptyEvent;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.OrderDomainService;
 import com.food.ordering.system.order.service.domain.dto.messages.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
 import com.food.ordering.system.saga.SagaStep;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
 public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse, EmptyEvent, OrderCancelledEvent> {
 
     private final OrderDomainService orderDomainService;
     private final OrderSagaHelper orderSagaHelper;
+    private final OrderOutboxHelper orderOutboxHelper;
 
     public OrderApprovalSaga(OrderDomainService orderDomainService,
-                             OrderSagaHelper orderSagaHelper) {
+                             OrderSagaHelper orderSagaHelper,
+                             OrderOutboxHelper orderOutboxHelper) {
         this.orderDomainService = orderDomainService;
         this.orderSagaHelper = orderSagaHelper;
+        this.orderOutboxHelper = orderOutboxHelper;
     }
 
     @Override
@@ -28,8 +44,12 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse, E
     public EmptyEvent process(RestaurantApprovalResponse restaurantApprovalResponse) {
         log.info("Approving order with id: {}", restaurantApprovalResponse.getOrderId());
         Order order = orderSagaHelper.findOrder(restaurantApprovalResponse.getOrderId());
+        if (orderSagaHelper.isAlreadyProcessed(order, OrderStatus.PAID)) {
+            return EmptyEvent.INSTANCE;
+        }
+        OrderStatus expectedStatus = order.getOrderStatus();
         orderDomainService.approveOrder(order);
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveOrder(order, expectedStatus);
         log.info("Order with id: {} is approved", order.getId().getValue());
         return EmptyEvent.INSTANCE;
     }
@@ -39,10 +59,68 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse, E
     public OrderCancelledEvent rollback(RestaurantApprovalResponse restaurantApprovalResponse) {
         log.info("Cancelling order with id: {}", restaurantApprovalResponse.getOrderId());
         Order order = orderSagaHelper.findOrder(restaurantApprovalResponse.getOrderId());
+        if (orderSagaHelper.isAlreadyProcessed(order, OrderStatus.PAID)) {
+            return null;
+        }
+        OrderStatus expectedStatus = order.getOrderStatus();
         OrderCancelledEvent domainEvent = orderDomainService.cancelOrderPayment(order,
                 restaurantApprovalResponse.getFailureMessages());
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveOrder(order, expectedStatus);
+        orderOutboxHelper.saveOutboxMessage(OrderOutboxEventType.ORDER_CANCELLED, domainEvent);
         log.info("Order with id: {} is cancelling", order.getId().getValue());
         return domainEvent;
     }
+
+    /**
+     * Applies a batch of restaurant approval responses in one transaction and returns the ones that could not be
+     * applied, so they can be retried one by one.
+     */
+    @Transactional
+    public List<RestaurantApprovalResponse> processBatch(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        Map<UUID, Order> orders = orderSagaHelper.findOrders(restaurantApprovalResponses.stream()
+                .map(RestaurantApprovalResponse::getOrderId)
+                .collect(Collectors.toList()));
+        Map<OrderId, OrderStatus> expectedStatuses = orders.values().stream()
+                .collect(Collectors.toMap(Order::getId, Order::getOrderStatus));
+        Map<OrderId, List<RestaurantApprovalResponse>> appliedResponses = new LinkedHashMap<>();
+        List<OrderCancelledEvent> orderCancelledEvents = new ArrayList<>();
+        List<RestaurantApprovalResponse> failedResponses = new ArrayList<>();
+        for (RestaurantApprovalResponse restaurantApprovalResponse : restaurantApprovalResponses) {
+            Order order = orders.get(UUID.fromString(restaurantApprovalResponse.getOrderId()));
+            if (order == null) {
+                failedResponses.add(restaurantApprovalResponse);
+                continue;
+            }
+            if (orderSagaHelper.isAlreadyProcessed(order, OrderStatus.PAID)) {
+                continue;
+            }
+            try {
+                if (OrderApprovalStatus.APPROVED == restaurantApprovalResponse.getOrderApprovalStatus()) {
+                    orderDomainService.approveOrder(order);
+                } else {
+                    orderCancelledEvents.add(orderDomainService.cancelOrderPayment(order,
+                            restaurantApprovalResponse.getFailureMessages()));
+                }
+                appliedResponses.computeIfAbsent(order.getId(), orderId -> new ArrayList<>())
+                        .add(restaurantApprovalResponse);
+            } catch (OrderDomainException e) {
+                failedResponses.add(restaurantApprovalResponse);
+            }
+        }
+        Set<OrderId> updatedOrderIds = orderSagaHelper.saveOrders(appliedResponses.keySet().stream()
+                .map(orderId -> orders.get(orderId.getValue()))
+                .collect(Collectors.toList()), expectedStatuses);
+        appliedResponses.forEach((orderId, responses) -> {
+            if (!updatedOrderIds.contains(orderId)) {
+                failedResponses.addAll(responses);
+            }
+        });
+        orderOutboxHelper.saveOutboxMessages(OrderOutboxEventType.ORDER_CANCELLED, orderCancelledEvents.stream()
+                .filter(orderCancelledEvent -> updatedOrderIds.contains(orderCancelledEvent.getOrder().getId()))
+                .collect(Collectors.toList()));
+        log.info("{} restaurant approval responses applied for {} orders, {} left for individual processing",
+                restaurantApprovalResponses.size() - failedResponses.size(), updatedOrderIds.size(),
+                failedResponses.size());
+        return failedResponses;
+    }
 }
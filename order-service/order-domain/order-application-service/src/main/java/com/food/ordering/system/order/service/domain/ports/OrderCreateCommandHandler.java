@@ -1,34 +1,90 @@
 package com.food.ordering.system.order.service.domain.ports;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderServiceBusyException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
 public class OrderCreateCommandHandler {
 
     private final OrderCreateHelper orderCreateHelper;
     private final OrderDataMapper orderDataMapper;
-
+    private final OrderIdempotencyHelper orderIdempotencyHelper;
     private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
 
     public OrderCreateCommandHandler(OrderCreateHelper orderCreateHelper,
                                      OrderDataMapper orderDataMapper,
-                                     OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher) {
+                                     OrderIdempotencyHelper orderIdempotencyHelper,
+                                     OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher,
+                                     OrderServiceConfigData orderServiceConfigData) {
         this.orderCreateHelper = orderCreateHelper;
         this.orderDataMapper = orderDataMapper;
+        this.orderIdempotencyHelper = orderIdempotencyHelper;
         this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+        this.orderServiceConfigData = orderServiceConfigData;
     }
 
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
-        OrderCreatedEvent orderCreatedEvent = orderCreateHelper.createOrder(createOrderCommand);
-        orderCreatedPaymentRequestMessagePublisher.publish(orderCreatedEvent);
+        checkPublishCapacity();
+        Restaurant restaurant = orderCreateHelper.checkCustomerAndRestaurant(createOrderCommand);
+        OrderCreatedEvent orderCreatedEvent = orderCreateHelper.createOrder(createOrderCommand, restaurant);
         return orderDataMapper.mapOrderToCreateOrderResponse(orderCreatedEvent.getOrder(), "Order created successfully.");
     }
 
+    public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createOrder(createOrderCommand);
+        }
+        String requestHash = orderDataMapper.createOrderCommandToRequestHash(createOrderCommand);
+        Optional<CreateOrderResponse> previousResponse = orderIdempotencyHelper.findResponse(idempotencyKey,
+                requestHash);
+        if (previousResponse.isPresent()) {
+            log.info("Returning original response for idempotency key: {}", idempotencyKey);
+            return previousResponse.get();
+        }
+        checkPublishCapacity();
+        return orderIdempotencyHelper.createOnce(idempotencyKey, requestHash, () -> {
+            Restaurant restaurant = orderCreateHelper.checkCustomerAndRestaurant(createOrderCommand);
+            OrderCreatedEvent orderCreatedEvent = orderCreateHelper.createOrder(createOrderCommand, restaurant,
+                    idempotencyKey, requestHash);
+            return orderDataMapper.mapOrderToCreateOrderResponse(orderCreatedEvent.getOrder(),
+                    "Order created successfully.");
+        });
+    }
+
+    public List<CreateOrderResponse> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        checkPublishCapacity();
+        return orderCreateHelper.createOrders(createOrderCommands).stream()
+                .map(orderCreatedEvent -> orderDataMapper.mapOrderToCreateOrderResponse(orderCreatedEvent.getOrder(),
+                        "Order created successfully."))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Turns new orders away while the producer has no send permit to spare, instead of piling up outbox messages
+     * the relay cannot publish. Off without {@code create-order-publish-timeout-ms}.
+     */
+    private void checkPublishCapacity() {
+        Long publishTimeoutMs = orderServiceConfigData.getCreateOrderPublishTimeoutMs();
+        if (publishTimeoutMs != null && !orderCreatedPaymentRequestMessagePublisher.awaitPublishCapacity(
+                publishTimeoutMs, TimeUnit.MILLISECONDS)) {
+            log.warn("No capacity to publish payment requests within {} ms, rejecting order", publishTimeoutMs);
+            throw new OrderServiceBusyException("Order service is busy, please retry later.");
+        }
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain.ports;
 
 import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
@@ -8,15 +9,25 @@ import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -26,26 +37,87 @@ public class OrderCreateHelper {
     private final CustomerRepository customerRepository;
     private final RestaurantRepository restaurantRepository;
     private final OrderDataMapper orderDataMapper;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OrderIdempotencyHelper orderIdempotencyHelper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Executor orderLookupExecutor;
 
     public OrderCreateHelper(OrderDomainService orderDomainService,
                                      OrderRepository orderRepository,
                                      CustomerRepository customerRepository,
                                      RestaurantRepository restaurantRepository,
-                                     OrderDataMapper orderDataMapper) {
+                                     OrderDataMapper orderDataMapper,
+                                     OrderOutboxHelper orderOutboxHelper,
+                                     OrderIdempotencyHelper orderIdempotencyHelper,
+                                     OrderServiceConfigData orderServiceConfigData,
+                                     @Qualifier("orderLookupExecutor") Executor orderLookupExecutor) {
         this.orderDomainService = orderDomainService;
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
         this.restaurantRepository = restaurantRepository;
         this.orderDataMapper = orderDataMapper;
+        this.orderOutboxHelper = orderOutboxHelper;
+        this.orderIdempotencyHelper = orderIdempotencyHelper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderLookupExecutor = orderLookupExecutor;
+    }
+
+    /**
+     * Checks the customer and finds the restaurant of a new order. Must be called before the order transaction
+     * opens: each lookup then borrows a connection only for its own query, so the parallel lookup never waits for
+     * a second connection while the request thread holds one.
+     */
+    public Restaurant checkCustomerAndRestaurant(CreateOrderCommand createOrderCommand) {
+        if (!Boolean.TRUE.equals(orderServiceConfigData.getParallelLookupsEnabled())) {
+            checkCustomer(createOrderCommand.getCustomerId());
+            return checkRestaurant(createOrderCommand);
+        }
+        // The restaurant lookup stays on the request thread so only the customer lookup needs another thread.
+        CompletableFuture<Void> customerCheck = CompletableFuture.runAsync(
+                () -> checkCustomer(createOrderCommand.getCustomerId()), orderLookupExecutor);
+        try {
+            return checkRestaurant(createOrderCommand);
+        } finally {
+            awaitCustomerCheck(customerCheck);
+        }
+    }
+
+    @Transactional
+    public OrderCreatedEvent createOrder(CreateOrderCommand createOrderCommand, Restaurant restaurant) {
+        return initiateOrder(createOrderCommand, restaurant);
+    }
+
+    @Transactional
+    public OrderCreatedEvent createOrder(CreateOrderCommand createOrderCommand, Restaurant restaurant,
+                                         String idempotencyKey, String requestHash) {
+        OrderCreatedEvent orderCreatedEvent = initiateOrder(createOrderCommand, restaurant);
+        orderIdempotencyHelper.saveIdempotencyKey(idempotencyKey, requestHash, orderCreatedEvent.getOrder());
+        return orderCreatedEvent;
     }
 
     @Transactional
-    public OrderCreatedEvent createOrder(CreateOrderCommand createOrderCommand) {
-        checkCustomer(createOrderCommand.getCustomerId());
-        Restaurant restaurant = checkRestaurant(createOrderCommand);
+    public List<OrderCreatedEvent> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        checkCustomers(createOrderCommands);
+        Map<UUID, Restaurant> restaurants = checkRestaurants(createOrderCommands);
+        List<OrderCreatedEvent> orderCreatedEvents = createOrderCommands.stream()
+                .map(createOrderCommand -> orderDomainService.validateAndInitiateOrder(
+                        orderDataMapper.createOrderCommandToOrder(createOrderCommand),
+                        restaurants.get(createOrderCommand.getRestaurantId())))
+                .collect(Collectors.toList());
+        List<Order> orders = orderCreatedEvents.stream()
+                .map(OrderCreatedEvent::getOrder)
+                .collect(Collectors.toList());
+        orderRepository.saveAll(orders);
+        orderOutboxHelper.saveOutboxMessages(OrderOutboxEventType.ORDER_CREATED, orderCreatedEvents);
+        log.info("{} orders were created.", orderCreatedEvents.size());
+        return orderCreatedEvents;
+    }
+
+    private OrderCreatedEvent initiateOrder(CreateOrderCommand createOrderCommand, Restaurant restaurant) {
         Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
         OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
         Order createOrder = saveOrder(orderCreatedEvent.getOrder());
+        orderOutboxHelper.saveOutboxMessage(OrderOutboxEventType.ORDER_CREATED, orderCreatedEvent);
         log.info("Order with id: {} was created.", createOrder.getId().getValue());
         return orderCreatedEvent;
     }
@@ -54,6 +126,17 @@ public class OrderCreateHelper {
         return orderRepository.save(createOrder);
     }
 
+    private void awaitCustomerCheck(CompletableFuture<Void> customerCheck) {
+        try {
+            customerCheck.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new OrderDomainException("Customer lookup failed", e.getCause());
+        }
+    }
+
     private Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
         Restaurant restaurant = restaurantRepository.findRestaurant(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand))
                 .orElseThrow(() -> new OrderDomainException("Restaurant does not exists"));
@@ -63,6 +146,40 @@ public class OrderCreateHelper {
         return restaurant;
     }
 
+    private Map<UUID, Restaurant> checkRestaurants(List<CreateOrderCommand> createOrderCommands) {
+        Map<UUID, Restaurant> restaurants = restaurantRepository
+                .findRestaurants(orderDataMapper.createOrderCommandsToRestaurants(createOrderCommands)).stream()
+                .collect(Collectors.toMap(restaurant -> restaurant.getId().getValue(), Function.identity()));
+        createOrderCommands.forEach(createOrderCommand -> {
+            Restaurant restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+            if (restaurant == null) {
+                log.warn("Restaurant with id: {} does not exists.", createOrderCommand.getRestaurantId());
+                throw new OrderDomainException("Restaurant does not exists");
+            }
+            if (!restaurant.isActive()) {
+                throw new OrderDomainException("Restaurant is not active.");
+            }
+        });
+        return restaurants;
+    }
+
+    private void checkCustomers(List<CreateOrderCommand> createOrderCommands) {
+        List<UUID> customerIds = createOrderCommands.stream()
+                .map(CreateOrderCommand::getCustomerId)
+                .distinct()
+                .collect(Collectors.toList());
+        Set<UUID> foundCustomerIds = customerRepository.findByIds(customerIds).stream()
+                .map(customer -> customer.getId().getValue())
+                .collect(Collectors.toSet());
+        customerIds.stream()
+                .filter(customerId -> !foundCustomerIds.contains(customerId))
+                .findFirst()
+                .ifPresent(customerId -> {
+                    log.warn("Customer with id: {} does not exists.", customerId);
+                    throw new OrderDomainException("Customer does not exist");
+                });
+    }
+
     private void checkCustomer(UUID customerId) {
         Optional<Customer> customer = customerRepository.findById(customerId);
         if (customer.isEmpty()){
@@ -0,0 +1,183 @@
+package com.food.ordering.system.order.service.domain.ports;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderIdempotencyKeyMismatchException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class OrderIdempotencyHelper {
+
+    private static final String UTC = "UTC";
+
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderDataMapper orderDataMapper;
+
+    // Least recently used keys go first once the cache is full.
+    private final Map<String, CachedResponse> responses;
+    private final Map<String, InFlightCreation> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyHelper(OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+                                  OrderServiceConfigData orderServiceConfigData,
+                                  OrderDataMapper orderDataMapper) {
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderDataMapper = orderDataMapper;
+        int cacheMaxSize = orderServiceConfigData.getIdempotencyKeyCacheMaxSize();
+        this.responses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > cacheMaxSize;
+            }
+        });
+    }
+
+    /**
+     * Returns the response of an earlier request with this key. A key reused for a different request fails with
+     * {@link OrderIdempotencyKeyMismatchException}.
+     */
+    Optional<CreateOrderResponse> findResponse(String idempotencyKey, String requestHash) {
+        CachedResponse cachedResponse = responses.get(idempotencyKey);
+        if (cachedResponse != null && !cachedResponse.isExpired(getNow(), getTtl())) {
+            checkRequestHash(idempotencyKey, requestHash, cachedResponse.requestHash());
+            return Optional.of(cachedResponse.response());
+        }
+        return findPersistedResponse(idempotencyKey, requestHash);
+    }
+
+    /**
+     * Runs create at most once per key on this instance; concurrent callers with the same key wait for
+     * the first one. Across instances the persisted key (same transaction as the order) decides the winner.
+     */
+    CreateOrderResponse createOnce(String idempotencyKey, String requestHash, Supplier<CreateOrderResponse> create) {
+        InFlightCreation inFlightCreation = new InFlightCreation(requestHash, new CompletableFuture<>());
+        InFlightCreation existing = inFlight.putIfAbsent(idempotencyKey, inFlightCreation);
+        if (existing != null) {
+            checkRequestHash(idempotencyKey, requestHash, existing.requestHash());
+            log.info("Waiting for in-flight order creation with idempotency key: {}", idempotencyKey);
+            return awaitInFlight(existing.response());
+        }
+        CompletableFuture<CreateOrderResponse> future = inFlightCreation.response();
+        try {
+            CreateOrderResponse response = findResponse(idempotencyKey, requestHash).orElseGet(create);
+            cacheResponse(idempotencyKey, requestHash, response);
+            future.complete(response);
+            return response;
+        } catch (OrderIdempotencyKeyMismatchException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException e) {
+            Optional<CreateOrderResponse> winner = findPersistedResponse(idempotencyKey, requestHash);
+            if (winner.isPresent()) {
+                log.info("Order with idempotency key: {} was created by another instance", idempotencyKey);
+                cacheResponse(idempotencyKey, requestHash, winner.get());
+                future.complete(winner.get());
+                return winner.get();
+            }
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, inFlightCreation);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveIdempotencyKey(String idempotencyKey, String requestHash, Order order) {
+        if (isPersistenceEnabled()) {
+            orderIdempotencyKeyRepository.save(orderDataMapper.orderToOrderIdempotencyKey(idempotencyKey,
+                    requestHash, order, getNow()));
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${order-service.idempotency-key-eviction-fixed-delay-ms}",
+            initialDelayString = "${order-service.idempotency-key-eviction-fixed-delay-ms}")
+    public void evictExpiredKeys() {
+        ZonedDateTime now = getNow();
+        Duration ttl = getTtl();
+        synchronized (responses) {
+            responses.values().removeIf(cachedResponse -> cachedResponse.isExpired(now, ttl));
+        }
+        if (isPersistenceEnabled()) {
+            orderIdempotencyKeyRepository.deleteCreatedBefore(now.minus(ttl));
+        }
+    }
+
+    private Optional<CreateOrderResponse> findPersistedResponse(String idempotencyKey, String requestHash) {
+        if (!isPersistenceEnabled()) {
+            return Optional.empty();
+        }
+        ZonedDateTime expiredBefore = getNow().minus(getTtl());
+        return orderIdempotencyKeyRepository.findByIdempotencyKey(idempotencyKey)
+                .filter(orderIdempotencyKey -> orderIdempotencyKey.getCreatedAt().isAfter(expiredBefore))
+                .map(orderIdempotencyKey -> {
+                    checkRequestHash(idempotencyKey, requestHash, orderIdempotencyKey.getRequestHash());
+                    return orderDataMapper.orderIdempotencyKeyToCreateOrderResponse(orderIdempotencyKey);
+                });
+    }
+
+    private void checkRequestHash(String idempotencyKey, String requestHash, String originalRequestHash) {
+        if (!requestHash.equals(originalRequestHash)) {
+            log.warn("Idempotency key: {} was reused for a different request", idempotencyKey);
+            throw new OrderIdempotencyKeyMismatchException("Idempotency key " + idempotencyKey +
+                    " was already used for a different request");
+        }
+    }
+
+    private CreateOrderResponse awaitInFlight(CompletableFuture<CreateOrderResponse> inFlightCreation) {
+        try {
+            return inFlightCreation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void cacheResponse(String idempotencyKey, String requestHash, CreateOrderResponse response) {
+        responses.put(idempotencyKey, new CachedResponse(requestHash, response, getNow()));
+    }
+
+    private boolean isPersistenceEnabled() {
+        return Boolean.TRUE.equals(orderServiceConfigData.getIdempotencyKeyPersistenceEnabled());
+    }
+
+    private Duration getTtl() {
+        return Duration.ofMinutes(orderServiceConfigData.getIdempotencyKeyTtlMinutes());
+    }
+
+    private static ZonedDateTime getNow() {
+        return ZonedDateTime.now(ZoneId.of(UTC));
+    }
+
+    private record InFlightCreation(String requestHash, CompletableFuture<CreateOrderResponse> response) {
+    }
+
+    private record CachedResponse(String requestHash, CreateOrderResponse response, ZonedDateTime createdAt) {
+        boolean isExpired(ZonedDateTime now, Duration ttl) {
+            return createdAt.plus(ttl).isBefore(now);
+        }
+    }
+}
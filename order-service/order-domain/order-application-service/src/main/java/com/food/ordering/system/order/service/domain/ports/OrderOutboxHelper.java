@@ -0,0 +1,48 @@
+package com.food.ordering.system.order.service.domain.ports;
+
+import com.food.ordering.system.domain.id.DomainIds;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OrderOutboxHelper {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+
+    public OrderOutboxHelper(OrderOutboxRepository orderOutboxRepository) {
+        this.orderOutboxRepository = orderOutboxRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveOutboxMessage(OrderOutboxEventType eventType, OrderEvent orderEvent) {
+        orderOutboxRepository.save(createOutboxMessage(eventType, orderEvent));
+        log.info("{} outbox message saved for order id: {}", eventType, orderEvent.getOrder().getId().getValue());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveOutboxMessages(OrderOutboxEventType eventType, List<? extends OrderEvent> orderEvents) {
+        orderOutboxRepository.saveAll(orderEvents.stream()
+                .map(orderEvent -> createOutboxMessage(eventType, orderEvent))
+                .collect(Collectors.toList()));
+        log.info("{} {} outbox messages saved", orderEvents.size(), eventType);
+    }
+
+    private OrderOutboxMessage createOutboxMessage(OrderOutboxEventType eventType, OrderEvent orderEvent) {
+        return OrderOutboxMessage.builder()
+                .id(DomainIds.newId())
+                .orderId(orderEvent.getOrder().getId().getValue())
+                .eventType(eventType)
+                .createdAt(orderEvent.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.food.ordering.system.order.service.domain.ports;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderRepository orderRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+    private final OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher;
+    private final OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderRepository orderRepository,
+                            OrderServiceConfigData orderServiceConfigData,
+                            OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher,
+                            OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher,
+                            OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderRepository = orderRepository;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+        this.orderPaidRestaurantRequestMessagePublisher = orderPaidRestaurantRequestMessagePublisher;
+        this.orderCancelledPaymentRequestMessagePublisher = orderCancelledPaymentRequestMessagePublisher;
+    }
+
+    /**
+     * Publishes the pending messages one event type at a time, in saga order, and waits for every send to be
+     * acknowledged. Only relayed messages are deleted, failed ones stay for the next run together with the later
+     * messages of their order, so an order never skips ahead of a step that did not reach Kafka.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${order-service.outbox-relay-fixed-delay-ms}",
+            initialDelayString = "${order-service.outbox-relay-fixed-delay-ms}")
+    public void relayOutboxMessages() {
+        List<OrderOutboxMessage> outboxMessages =
+                orderOutboxRepository.findPendingAndLock(orderServiceConfigData.getOutboxRelayBatchSize());
+        if (outboxMessages.isEmpty()) {
+            return;
+        }
+        log.info("Relaying {} outbox messages", outboxMessages.size());
+        Map<UUID, Order> orders = findOrders(outboxMessages);
+        Set<UUID> failedOrderIds = new HashSet<>();
+        List<UUID> relayedIds = new ArrayList<>();
+        for (OrderOutboxEventType eventType : OrderOutboxEventType.values()) {
+            List<OrderOutboxMessage> eventTypeMessages = new ArrayList<>();
+            for (OrderOutboxMessage outboxMessage : outboxMessages) {
+                if (outboxMessage.getEventType() != eventType || failedOrderIds.contains(outboxMessage.getOrderId())) {
+                    continue;
+                }
+                if (!orders.containsKey(outboxMessage.getOrderId())) {
+                    log.error("Order with id: {} could not be found, dropping {} outbox message {}",
+                            outboxMessage.getOrderId(), outboxMessage.getEventType(), outboxMessage.getId());
+                    relayedIds.add(outboxMessage.getId());
+                    continue;
+                }
+                eventTypeMessages.add(outboxMessage);
+            }
+            if (eventTypeMessages.isEmpty()) {
+                continue;
+            }
+            Set<Integer> failedIndexes = publishAll(eventType, eventTypeMessages, orders);
+            for (int index = 0; index < eventTypeMessages.size(); index++) {
+                OrderOutboxMessage outboxMessage = eventTypeMessages.get(index);
+                if (failedIndexes.contains(index)) {
+                    failedOrderIds.add(outboxMessage.getOrderId());
+                } else {
+                    relayedIds.add(outboxMessage.getId());
+                }
+            }
+        }
+        if (!relayedIds.isEmpty()) {
+            orderOutboxRepository.deleteByIds(relayedIds);
+        }
+        log.info("{} of {} outbox messages relayed", relayedIds.size(), outboxMessages.size());
+    }
+
+    private Map<UUID, Order> findOrders(List<OrderOutboxMessage> outboxMessages) {
+        List<OrderId> orderIds = outboxMessages.stream()
+                .map(OrderOutboxMessage::getOrderId)
+                .distinct()
+                .map(OrderId::new)
+                .collect(Collectors.toList());
+        return orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(order -> order.getId().getValue(), Function.identity()));
+    }
+
+    private Set<Integer> publishAll(OrderOutboxEventType eventType, List<OrderOutboxMessage> outboxMessages,
+                                    Map<UUID, Order> orders) {
+        return switch (eventType) {
+            case ORDER_CREATED -> orderCreatedPaymentRequestMessagePublisher.publishAll(outboxMessages.stream()
+                    .map(outboxMessage -> new OrderCreatedEvent(orders.get(outboxMessage.getOrderId()),
+                            outboxMessage.getCreatedAt()))
+                    .collect(Collectors.toList()));
+            case ORDER_PAID -> orderPaidRestaurantRequestMessagePublisher.publishAll(outboxMessages.stream()
+                    .map(outboxMessage -> new OrderPaidEvent(orders.get(outboxMessage.getOrderId()),
+                            outboxMessage.getCreatedAt()))
+                    .collect(Collectors.toList()));
+            case ORDER_CANCELLED -> orderCancelledPaymentRequestMessagePublisher.publishAll(outboxMessages.stream()
+                    .map(outboxMessage -> new OrderCancelledEvent(orders.get(outboxMessage.getOrderId()),
+                            outboxMessage.getCreatedAt()))
+                    .collect(Collectors.toList()));
+        };
+    }
+}
@@ -1,26 +1,42 @@
 package com.food.ordering.system.order.service.domain.ports;
 
 import com.food.ordering.system.domain.event.EmptyEvent;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.order.service.domain.OrderDomainService;
 import com.food.ordering.system.order.service.domain.dto.messages.PaymentResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxEventType;
 import com.food.ordering.system.saga.SagaStep;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
 public class OrderPaymentSaga implements SagaStep<PaymentResponse, OrderPaidEvent, EmptyEvent> {
 
     private final OrderDomainService orderDomainService;
     private final OrderSagaHelper orderSagaHelper;
+    private final OrderOutboxHelper orderOutboxHelper;
 
     public OrderPaymentSaga(OrderDomainService orderDomainService,
-                            OrderSagaHelper orderSagaHelper) {
+                            OrderSagaHelper orderSagaHelper,
+                            OrderOutboxHelper orderOutboxHelper) {
         this.orderDomainService = orderDomainService;
         this.orderSagaHelper = orderSagaHelper;
+        this.orderOutboxHelper = orderOutboxHelper;
     }
 
     @Override
@@ -28,8 +44,13 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse, OrderPaidEven
     public OrderPaidEvent process(PaymentResponse paymentResponse) {
         log.info("Completing payment for order with id: {}", paymentResponse.getOrderId());
         Order order = findOrder(paymentResponse.getOrderId());
+        if (orderSagaHelper.isAlreadyProcessed(order, lastSourceStatus(paymentResponse))) {
+            return null;
+        }
+        OrderStatus expectedStatus = order.getOrderStatus();
         OrderPaidEvent domainEvent = orderDomainService.payOrder(order);
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveOrder(order, expectedStatus);
+        orderOutboxHelper.saveOutboxMessage(OrderOutboxEventType.ORDER_PAID, domainEvent);
         log.info("Order with id: {} is paid", order.getId().getValue());
         return domainEvent;
     }
@@ -39,12 +60,72 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse, OrderPaidEven
     public EmptyEvent rollback(PaymentResponse paymentResponse) {
         log.info("Cancelling order with id: {}", paymentResponse.getOrderId());
         Order order = findOrder(paymentResponse.getOrderId());
+        if (orderSagaHelper.isAlreadyProcessed(order, lastSourceStatus(paymentResponse))) {
+            return EmptyEvent.INSTANCE;
+        }
+        OrderStatus expectedStatus = order.getOrderStatus();
         orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveOrder(order, expectedStatus);
         log.info("Order with id: {} is cancelled", order.getId().getValue());
         return EmptyEvent.INSTANCE;
     }
 
+    /**
+     * Applies a batch of payment responses in one transaction and returns the ones that could not be applied,
+     * so they can be retried one by one.
+     */
+    @Transactional
+    public List<PaymentResponse> processBatch(List<PaymentResponse> paymentResponses) {
+        Map<UUID, Order> orders = orderSagaHelper.findOrders(paymentResponses.stream()
+                .map(PaymentResponse::getOrderId)
+                .collect(Collectors.toList()));
+        Map<OrderId, OrderStatus> expectedStatuses = orders.values().stream()
+                .collect(Collectors.toMap(Order::getId, Order::getOrderStatus));
+        Map<OrderId, List<PaymentResponse>> appliedResponses = new LinkedHashMap<>();
+        List<OrderPaidEvent> orderPaidEvents = new ArrayList<>();
+        List<PaymentResponse> failedResponses = new ArrayList<>();
+        for (PaymentResponse paymentResponse : paymentResponses) {
+            Order order = orders.get(UUID.fromString(paymentResponse.getOrderId()));
+            if (order == null) {
+                failedResponses.add(paymentResponse);
+                continue;
+            }
+            if (orderSagaHelper.isAlreadyProcessed(order, lastSourceStatus(paymentResponse))) {
+                continue;
+            }
+            try {
+                if (PaymentStatus.COMPLETED == paymentResponse.getPaymentStatus()) {
+                    orderPaidEvents.add(orderDomainService.payOrder(order));
+                } else {
+                    orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
+                }
+                appliedResponses.computeIfAbsent(order.getId(), orderId -> new ArrayList<>()).add(paymentResponse);
+            } catch (OrderDomainException e) {
+                failedResponses.add(paymentResponse);
+            }
+        }
+        Set<OrderId> updatedOrderIds = orderSagaHelper.saveOrders(appliedResponses.keySet().stream()
+                .map(orderId -> orders.get(orderId.getValue()))
+                .collect(Collectors.toList()), expectedStatuses);
+        appliedResponses.forEach((orderId, responses) -> {
+            if (!updatedOrderIds.contains(orderId)) {
+                failedResponses.addAll(responses);
+            }
+        });
+        orderOutboxHelper.saveOutboxMessages(OrderOutboxEventType.ORDER_PAID, orderPaidEvents.stream()
+                .filter(orderPaidEvent -> updatedOrderIds.contains(orderPaidEvent.getOrder().getId()))
+                .collect(Collectors.toList()));
+        log.info("{} payment responses applied for {} orders, {} left for individual processing",
+                paymentResponses.size() - failedResponses.size(), updatedOrderIds.size(), failedResponses.size());
+        return failedResponses;
+    }
+
+    // Payments complete pending orders and cancel pending or cancelling ones.
+    private OrderStatus lastSourceStatus(PaymentResponse paymentResponse) {
+        return PaymentStatus.COMPLETED == paymentResponse.getPaymentStatus() ?
+                OrderStatus.PENDING : OrderStatus.CANCELLING;
+    }
+
     private Order findOrder(String orderId) {
         return orderSagaHelper.findOrder(orderId);
     }
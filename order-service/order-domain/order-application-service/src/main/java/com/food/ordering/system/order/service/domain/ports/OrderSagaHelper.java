@@ -1,23 +1,33 @@
 package com.food.ordering.system.order.service.domain.ports;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class OrderSagaHelper {
 
     private final OrderRepository orderRepository;
+    private final OrderStatusSubscriptionHelper orderStatusSubscriptionHelper;
 
-    public OrderSagaHelper(OrderRepository orderRepository) {
+    public OrderSagaHelper(OrderRepository orderRepository,
+                           OrderStatusSubscriptionHelper orderStatusSubscriptionHelper) {
         this.orderRepository = orderRepository;
+        this.orderStatusSubscriptionHelper = orderStatusSubscriptionHelper;
     }
 
     Order findOrder(String orderId) {
@@ -29,7 +39,44 @@ public class OrderSagaHelper {
         return orderResponse.get();
     }
 
-    void saveOrder(Order order) {
-        orderRepository.save(order);
+    Map<UUID, Order> findOrders(List<String> orderIds) {
+        return orderRepository.findAllById(orderIds.stream()
+                        .map(UUID::fromString)
+                        .distinct()
+                        .map(OrderId::new)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(order -> order.getId().getValue(), Function.identity()));
+    }
+
+    /**
+     * Saga transitions only move an order forward in {@link OrderStatus} order. An order past the last status a step
+     * starts from has already seen that step, so the response is a redelivery.
+     */
+    boolean isAlreadyProcessed(Order order, OrderStatus lastSourceStatus) {
+        if (order.getOrderStatus().compareTo(lastSourceStatus) <= 0) {
+            return false;
+        }
+        log.info("Order with id: {} is already {}, skipping redelivered response", order.getId().getValue(),
+                order.getOrderStatus());
+        return true;
+    }
+
+    Set<OrderId> saveOrders(List<Order> orders, Map<OrderId, OrderStatus> expectedStatuses) {
+        Set<OrderId> updatedOrderIds = orderRepository.updateStatuses(orders, expectedStatuses);
+        orders.stream()
+                .filter(order -> updatedOrderIds.contains(order.getId()))
+                .forEach(orderStatusSubscriptionHelper::publish);
+        return updatedOrderIds;
+    }
+
+    void saveOrder(Order order, OrderStatus expectedStatus) {
+        if (!orderRepository.updateStatus(order, expectedStatus)) {
+            log.warn("Order with id: {} is no longer in status {}, skipping transition to {}",
+                    order.getId().getValue(), expectedStatus, order.getOrderStatus());
+            throw new OrderDomainException("Order with id " + order.getId().getValue() +
+                    " is no longer in status " + expectedStatus);
+        }
+        orderStatusSubscriptionHelper.publish(order);
     }
 }
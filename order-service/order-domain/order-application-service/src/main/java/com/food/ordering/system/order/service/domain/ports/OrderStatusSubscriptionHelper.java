@@ -0,0 +1,162 @@
+package com.food.ordering.system.order.service.domain.ports;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Order status subscriptions of the clients connected to this instance. Transitions applied here are pushed right
+ * after their commit; transitions applied by other instances are picked up by polling the subscribed orders every
+ * {@code order-status-subscription-poll-fixed-delay-ms}.
+ * <p>
+ * Subscribers are called on the {@code orderStatusNotificationExecutor}, never on the committing thread, one
+ * notification at a time per order. A status is only delivered once, and never after a later one: statuses only
+ * move forward in declaration order.
+ */
+@Slf4j
+@Component
+public class OrderStatusSubscriptionHelper {
+
+    private static final int POLL_BATCH_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final OrderDataMapper orderDataMapper;
+    private final Executor orderStatusNotificationExecutor;
+
+    private final Map<UUID, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    public OrderStatusSubscriptionHelper(OrderRepository orderRepository,
+                                         OrderDataMapper orderDataMapper,
+                                         @Qualifier("orderStatusNotificationExecutor")
+                                         Executor orderStatusNotificationExecutor) {
+        this.orderRepository = orderRepository;
+        this.orderDataMapper = orderDataMapper;
+        this.orderStatusNotificationExecutor = orderStatusNotificationExecutor;
+    }
+
+    void subscribe(UUID trackingId, Consumer<TrackOrderResponse> subscriber) {
+        subscriptions.computeIfAbsent(trackingId, Subscription::new).subscribers.add(subscriber);
+    }
+
+    void unsubscribe(UUID trackingId, Consumer<TrackOrderResponse> subscriber) {
+        subscriptions.computeIfPresent(trackingId, (id, subscription) -> {
+            subscription.subscribers.remove(subscriber);
+            return subscription.subscribers.isEmpty() ? null : subscription;
+        });
+    }
+
+    /**
+     * Notifies subscribers of the order's new status once the surrounding transaction commits.
+     */
+    void publish(Order order) {
+        UUID trackingId = order.getTrackingId().getValue();
+        if (!subscriptions.containsKey(trackingId)) {
+            return;
+        }
+        TrackOrderResponse trackOrderResponse = orderDataMapper.orderToTrackOrderResponse(order);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(trackOrderResponse);
+                }
+            });
+        } else {
+            offer(trackOrderResponse);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${order-service.order-status-subscription-poll-fixed-delay-ms}",
+            initialDelayString = "${order-service.order-status-subscription-poll-fixed-delay-ms}")
+    public void pollSubscribedOrders() {
+        List<TrackingId> trackingIds = new ArrayList<>(POLL_BATCH_SIZE);
+        for (UUID trackingId : subscriptions.keySet()) {
+            trackingIds.add(new TrackingId(trackingId));
+            if (trackingIds.size() == POLL_BATCH_SIZE) {
+                pollOrders(trackingIds);
+                trackingIds.clear();
+            }
+        }
+        if (!trackingIds.isEmpty()) {
+            pollOrders(trackingIds);
+        }
+    }
+
+    private void pollOrders(List<TrackingId> trackingIds) {
+        orderRepository.findAllStatusesByTrackingId(trackingIds).forEach(this::offer);
+    }
+
+    private void offer(TrackOrderResponse trackOrderResponse) {
+        Subscription subscription = subscriptions.get(trackOrderResponse.getOrderTrackingId());
+        if (subscription != null && subscription.offer(trackOrderResponse)) {
+            orderStatusNotificationExecutor.execute(subscription::drain);
+        }
+    }
+
+    private static final class Subscription {
+        private final UUID trackingId;
+        private final Set<Consumer<TrackOrderResponse>> subscribers = ConcurrentHashMap.newKeySet();
+        private OrderStatus offeredStatus;
+        private TrackOrderResponse pending;
+        private boolean draining;
+
+        private Subscription(UUID trackingId) {
+            this.trackingId = trackingId;
+        }
+
+        // Returns true if a drain has to be scheduled.
+        private synchronized boolean offer(TrackOrderResponse trackOrderResponse) {
+            OrderStatus orderStatus = trackOrderResponse.getOrderStatus();
+            if (offeredStatus != null && orderStatus.compareTo(offeredStatus) <= 0) {
+                return false;
+            }
+            offeredStatus = orderStatus;
+            pending = trackOrderResponse;
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        private synchronized TrackOrderResponse takePending() {
+            TrackOrderResponse trackOrderResponse = pending;
+            pending = null;
+            draining = trackOrderResponse != null;
+            return trackOrderResponse;
+        }
+
+        private void drain() {
+            TrackOrderResponse trackOrderResponse;
+            while ((trackOrderResponse = takePending()) != null) {
+                for (Consumer<TrackOrderResponse> subscriber : subscribers) {
+                    try {
+                        subscriber.accept(trackOrderResponse);
+                    } catch (RuntimeException e) {
+                        log.warn("Could not notify subscriber of order with tracking id: {}", trackingId, e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -2,31 +2,21 @@ package com.food.ordering.system.order.service.domain.ports;
 
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
-import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
-import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
 public class OrderTrackCommandHandler {
 
-    private final OrderRepository orderRepository;
-    private final OrderDataMapper orderDataMapper;
+    private final OrderTrackHelper orderTrackHelper;
 
-    public OrderTrackCommandHandler(OrderRepository orderRepository, OrderDataMapper orderDataMapper) {
-        this.orderRepository = orderRepository;
-        this.orderDataMapper = orderDataMapper;
+    public OrderTrackCommandHandler(OrderTrackHelper orderTrackHelper) {
+        this.orderTrackHelper = orderTrackHelper;
     }
 
-    @Transactional(readOnly = true)
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-        Order order = orderRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId())).
-                orElseThrow(() -> new OrderNotFoundException("Could not found order with tracking id: " + trackOrderQuery.getOrderTrackingId()));
-        return orderDataMapper.orderToTrackOrderResponse(order);
+        return orderTrackHelper.findOrderStatus(new TrackingId(trackOrderQuery.getOrderTrackingId()));
     }
 }
@@ -0,0 +1,26 @@
+package com.food.ordering.system.order.service.domain.ports;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+public class OrderTrackHelper {
+
+    private final OrderRepository orderRepository;
+
+    public OrderTrackHelper(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public TrackOrderResponse findOrderStatus(TrackingId trackingId) {
+        return orderRepository.findStatusByTrackingId(trackingId).
+                orElseThrow(() -> new OrderNotFoundException("Could not found order with tracking id: " + trackingId.getValue()));
+    }
+}
@@ -1,32 +1,33 @@
 package com.food.ordering.system.order.service.domain.ports;
 
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.order.service.domain.dto.messages.PaymentResponse;
-import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderResponseBatchException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
-import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Validated
 @Component
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
 
     private final OrderPaymentSaga orderPaymentSaga;
-    private final OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher;
 
-    public PaymentResponseMessageListenerImpl(OrderPaymentSaga orderPaymentSaga,
-                                              OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher) {
+    public PaymentResponseMessageListenerImpl(OrderPaymentSaga orderPaymentSaga) {
         this.orderPaymentSaga = orderPaymentSaga;
-        this.orderPaidRestaurantRequestMessagePublisher = orderPaidRestaurantRequestMessagePublisher;
     }
 
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
-        OrderPaidEvent orderPaidEvent = orderPaymentSaga.process(paymentResponse);
-        log.info("Publishing orderPaidEvent for order id {}", paymentResponse.getOrderId());
-        orderPaidRestaurantRequestMessagePublisher.publish(orderPaidEvent);
+        orderPaymentSaga.process(paymentResponse);
+        log.info("Order is paid for order id: {}", paymentResponse.getOrderId());
     }
 
     @Override
@@ -36,4 +37,26 @@ public class PaymentResponseMessageListenerImpl implements PaymentResponseMessag
                 paymentResponse.getOrderId(),
                 String.join(",", paymentResponse.getFailureMessages()));
     }
+
+    @Override
+    public void paymentResponsesReceived(List<PaymentResponse> paymentResponses) {
+        Set<PaymentResponse> failedResponses = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedResponses.addAll(orderPaymentSaga.processBatch(paymentResponses));
+        for (int index = 0; index < paymentResponses.size(); index++) {
+            PaymentResponse paymentResponse = paymentResponses.get(index);
+            if (!failedResponses.contains(paymentResponse)) {
+                continue;
+            }
+            try {
+                if (PaymentStatus.COMPLETED == paymentResponse.getPaymentStatus()) {
+                    paymentCompleted(paymentResponse);
+                } else {
+                    paymentCancelled(paymentResponse);
+                }
+            } catch (RuntimeException e) {
+                throw new OrderResponseBatchException("Could not process payment response for order id: " +
+                        paymentResponse.getOrderId(), index, e);
+            }
+        }
+    }
 }
@@ -1,23 +1,26 @@
 package com.food.ordering.system.order.service.domain.ports;
 
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.order.service.domain.dto.messages.RestaurantApprovalResponse;
-import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderResponseBatchException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
-import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Validated
 @Component
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
 
-    private final OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher;
     private final OrderApprovalSaga orderApprovalSaga;
 
-    public RestaurantApprovalResponseMessageListenerImpl(OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher, OrderApprovalSaga orderApprovalSaga) {
-        this.orderCancelledPaymentRequestMessagePublisher = orderCancelledPaymentRequestMessagePublisher;
+    public RestaurantApprovalResponseMessageListenerImpl(OrderApprovalSaga orderApprovalSaga) {
         this.orderApprovalSaga = orderApprovalSaga;
     }
 
@@ -29,10 +32,31 @@ public class RestaurantApprovalResponseMessageListenerImpl implements Restaurant
 
     @Override
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
-        OrderCancelledEvent orderCancelledEvent = orderApprovalSaga.rollback(restaurantApprovalResponse);
-        log.info("Publishing order cancelled event for order id: {} with failure messages: {}",
+        orderApprovalSaga.rollback(restaurantApprovalResponse);
+        log.info("Order cancellation requested for order id: {} with failure messages: {}",
                 restaurantApprovalResponse.getOrderId(),
                 String.join(",", restaurantApprovalResponse.getFailureMessages()));
-        orderCancelledPaymentRequestMessagePublisher.publish(orderCancelledEvent);
+    }
+
+    @Override
+    public void restaurantApprovalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        Set<RestaurantApprovalResponse> failedResponses = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedResponses.addAll(orderApprovalSaga.processBatch(restaurantApprovalResponses));
+        for (int index = 0; index < restaurantApprovalResponses.size(); index++) {
+            RestaurantApprovalResponse restaurantApprovalResponse = restaurantApprovalResponses.get(index);
+            if (!failedResponses.contains(restaurantApprovalResponse)) {
+                continue;
+            }
+            try {
+                if (OrderApprovalStatus.APPROVED == restaurantApprovalResponse.getOrderApprovalStatus()) {
+                    orderApproved(restaurantApprovalResponse);
+                } else {
+                    orderRejected(restaurantApprovalResponse);
+                }
+            } catch (RuntimeException e) {
+                throw new OrderResponseBatchException("Could not process restaurant approval response for order id: " +
+                        restaurantApprovalResponse.getOrderId(), index, e);
+            }
+        }
     }
 }
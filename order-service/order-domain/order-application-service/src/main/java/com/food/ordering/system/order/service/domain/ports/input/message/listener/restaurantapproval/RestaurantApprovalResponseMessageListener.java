@@ -2,9 +2,13 @@ package com.food.ordering.system.order.service.domain.ports.input.message.listen
 
 import com.food.ordering.system.order.service.domain.dto.messages.RestaurantApprovalResponse;
 
+import java.util.List;
+
 public interface RestaurantApprovalResponseMessageListener {
 
     void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse);
 
     void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse);
+
+    void restaurantApprovalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses);
 }
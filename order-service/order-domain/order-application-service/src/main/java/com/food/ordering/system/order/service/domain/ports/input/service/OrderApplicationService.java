@@ -2,14 +2,27 @@ package com.food.ordering.system.order.service.domain.ports.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.MaxCreateOrderBatchSize;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderApplicationService {
 
     CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
 
+    CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand, String idempotencyKey);
+
+    List<CreateOrderResponse> createOrders(@Valid @NotEmpty @MaxCreateOrderBatchSize
+                                           List<CreateOrderCommand> createOrderCommands);
+
     TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
+
+    void subscribeToOrderStatus(@Valid TrackOrderQuery trackOrderQuery, Consumer<TrackOrderResponse> subscriber);
+
+    void unsubscribeFromOrderStatus(@Valid TrackOrderQuery trackOrderQuery, Consumer<TrackOrderResponse> subscriber);
 }
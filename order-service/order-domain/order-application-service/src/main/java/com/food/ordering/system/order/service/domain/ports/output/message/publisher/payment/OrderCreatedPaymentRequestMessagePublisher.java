@@ -1,7 +1,15 @@
 package com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment;
 
-import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
+import com.food.ordering.system.domain.event.publisher.BatchDomainEventPublisher;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 
-public interface OrderCreatedPaymentRequestMessagePublisher extends DomainEventPublisher<OrderCreatedEvent> {
+import java.util.concurrent.TimeUnit;
+
+public interface OrderCreatedPaymentRequestMessagePublisher extends BatchDomainEventPublisher<OrderCreatedEvent> {
+
+    /**
+     * Waits up to {@code timeout} until a payment request could be handed to the message broker without blocking,
+     * and returns whether it could.
+     */
+    boolean awaitPublishCapacity(long timeout, TimeUnit unit);
 }
@@ -2,9 +2,12 @@ package com.food.ordering.system.order.service.domain.ports.output.repository;
 
 import com.food.ordering.system.order.service.domain.entity.Customer;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CustomerRepository {
     Optional<Customer> findById(UUID customerId);
+
+    List<Customer> findByIds(List<UUID> customerIds);
 }
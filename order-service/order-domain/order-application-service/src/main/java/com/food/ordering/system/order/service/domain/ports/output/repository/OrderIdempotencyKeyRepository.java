@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.idempotency.model.OrderIdempotencyKey;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyRepository {
+    OrderIdempotencyKey save(OrderIdempotencyKey orderIdempotencyKey);
+
+    Optional<OrderIdempotencyKey> findByIdempotencyKey(String idempotencyKey);
+
+    void deleteCreatedBefore(ZonedDateTime createdAt);
+}
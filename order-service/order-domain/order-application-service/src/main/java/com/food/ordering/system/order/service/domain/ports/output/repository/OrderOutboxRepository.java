@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderOutboxRepository {
+    OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage);
+
+    List<OrderOutboxMessage> saveAll(List<OrderOutboxMessage> orderOutboxMessages);
+
+    /**
+     * Locks up to batchSize pending messages, skipping rows already locked by another relay instance.
+     * Must be called inside a transaction; the locks are held until it commits.
+     */
+    List<OrderOutboxMessage> findPendingAndLock(int batchSize);
+
+    void deleteByIds(List<UUID> ids);
+}
@@ -1,14 +1,44 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface OrderRepository {
     Order save (Order order);
 
+    List<Order> saveAll(List<Order> orders);
+
+    /**
+     * Writes only the order's status and failure messages, if the stored status is still the expected one.
+     * Returns false when another transition got there first.
+     */
+    boolean updateStatus(Order order, OrderStatus expectedStatus);
+
+    /**
+     * Batch variant of {@link #updateStatus}. Returns the ids of the orders that were updated.
+     */
+    Set<OrderId> updateStatuses(List<Order> orders, Map<OrderId, OrderStatus> expectedStatuses);
+
     Optional<Order> findById(OrderId orderId);
+
+    List<Order> findAllById(List<OrderId> orderIds);
     Optional<Order> findByTrackingId(TrackingId trackingId);
+
+    /**
+     * Reads only the order's tracking id, status and failure messages, without its items and address.
+     */
+    Optional<TrackOrderResponse> findStatusByTrackingId(TrackingId trackingId);
+
+    /**
+     * Batch variant of {@link #findStatusByTrackingId}.
+     */
+    List<TrackOrderResponse> findAllStatusesByTrackingId(List<TrackingId> trackingIds);
 }
@@ -2,8 +2,11 @@ package com.food.ordering.system.order.service.domain.ports.output.repository;
 
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface RestaurantRepository {
     Optional<Restaurant> findRestaurant(Restaurant restaurant);
+
+    List<Restaurant> findRestaurants(List<Restaurant> restaurants);
 }
@@ -10,8 +10,11 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderIdempotencyKeyMismatchException;
+import com.food.ordering.system.order.service.domain.exception.OrderServiceBusyException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
@@ -20,13 +23,19 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import javax.validation.ConstraintViolationException;
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -48,6 +57,9 @@ class OrderApplicationServiceImplTest {
     @Autowired
     private RestaurantRepository restaurantRepository;
 
+    @Autowired
+    private OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+
     private CreateOrderCommand createOrderCommand;
     private CreateOrderCommand createOrderCommandWrongPrice;
     private CreateOrderCommand createOrderCommandWrongProductPrice;
@@ -146,6 +158,9 @@ class OrderApplicationServiceImplTest {
         when(restaurantRepository.findRestaurant(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand)))
                 .thenReturn(Optional.of(restaurant));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(customerRepository.findByIds(List.of(CUSTOMER_ID))).thenReturn(List.of(customer));
+        when(restaurantRepository.findRestaurants(any())).thenReturn(List.of(restaurant));
+        when(orderCreatedPaymentRequestMessagePublisher.awaitPublishCapacity(anyLong(), any())).thenReturn(true);
     }
 
     @Test
@@ -157,6 +172,60 @@ class OrderApplicationServiceImplTest {
         assertNotNull(createOrderResponse.getOrderTrackingId());
     }
 
+    @Test
+    public void testCreateOrderWithSameIdempotencyKey(){
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+        CreateOrderResponse retriedCreateOrderResponse =
+                orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+
+        assertEquals(createOrderResponse.getOrderTrackingId(), retriedCreateOrderResponse.getOrderTrackingId());
+        assertEquals(OrderStatus.PENDING, retriedCreateOrderResponse.getOrderStatus());
+        verify(orderRepository, times(1)).save(any(Order.class));
+    }
+
+    @Test
+    public void testCreateOrderWithSameIdempotencyKeyAndDifferentRequest(){
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+
+        assertThrows(OrderIdempotencyKeyMismatchException.class,
+                () -> orderApplicationService.createOrder(createOrderCommandWrongPrice, idempotencyKey));
+    }
+
+    @Test
+    public void testCreateOrderWithoutPublishCapacity(){
+        when(orderCreatedPaymentRequestMessagePublisher.awaitPublishCapacity(anyLong(), any())).thenReturn(false);
+
+        assertThrows(OrderServiceBusyException.class,
+                () -> orderApplicationService.createOrder(createOrderCommand, UUID.randomUUID().toString()));
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    public void testCreateOrders(){
+        List<CreateOrderResponse> createOrderResponses =
+                orderApplicationService.createOrders(List.of(createOrderCommand, createOrderCommand));
+
+        assertEquals(2, createOrderResponses.size());
+        createOrderResponses.forEach(createOrderResponse -> {
+            assertEquals(OrderStatus.PENDING, createOrderResponse.getOrderStatus());
+            assertNotNull(createOrderResponse.getOrderTrackingId());
+        });
+    }
+
+    @Test
+    public void testCreateOrdersOverMaxBatchSize(){
+        List<CreateOrderCommand> createOrderCommands = Collections.nCopies(11, createOrderCommand);
+
+        ConstraintViolationException constraintViolationException = assertThrows(ConstraintViolationException.class,
+                () -> orderApplicationService.createOrders(createOrderCommands));
+        assertEquals("size must be at most 10",
+                constraintViolationException.getConstraintViolations().iterator().next().getMessage());
+    }
+
     @Test
     public void testCreateOrderWithWrongTotalPrice(){
         OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
@@ -173,6 +242,22 @@ class OrderApplicationServiceImplTest {
         assertEquals("Item price is not valid.", orderDomainException.getMessage());
     }
 
+    @Test
+    public void testCreateOrderWithPriceOutOfRange(){
+        CreateOrderCommand createOrderCommandPriceOutOfRange = CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .address(createOrderCommand.getAddress())
+                .price(new BigDecimal("1E20"))
+                .items(createOrderCommand.getItems())
+                .build();
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderApplicationService.createOrder(createOrderCommandPriceOutOfRange));
+
+        assertEquals("Amount 100000000000000000000 is out of range", orderDomainException.getMessage());
+    }
+
     @Test
     public void testCreateOrderWithInactiveRestaurant() {
         Restaurant restaurant = Restaurant.Builder.builder()
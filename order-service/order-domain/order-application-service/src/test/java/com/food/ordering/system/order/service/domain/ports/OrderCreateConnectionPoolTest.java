@@ -0,0 +1,206 @@
+package com.food.ordering.system.order.service.domain.ports;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs more concurrent creates than there are database connections, with the parallel lookups on. A transaction
+ * holds one connection until it completes, and a lookup outside of one borrows a connection for its own query, as
+ * with a real pool.
+ */
+@SpringBootTest(classes = {OrderTestConfiguration.class,
+        OrderCreateConnectionPoolTest.PooledTransactionConfiguration.class})
+class OrderCreateConnectionPoolTest {
+
+    private static final int CONNECTIONS = 2;
+    private static final int CONCURRENT_CREATES = 8;
+    private static final long CONNECTION_TIMEOUT_MS = 2000L;
+    private static final Semaphore connections = new Semaphore(CONNECTIONS);
+
+    private final UUID CUSTOMER_ID = UUID.fromString("8924768a-4e7c-4a47-bd96-3c9ce9d818c1");
+    private final UUID RESTAURANT_ID = UUID.fromString("8924768a-4e7c-4a47-bd96-3c9ce9d818c1");
+    private final UUID PRODUCT_ID = UUID.fromString("8924768a-4e7c-4a47-bd96-3c9ce9d818c1");
+
+    @Autowired
+    private OrderApplicationService orderApplicationService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+
+    private CreateOrderCommand createOrderCommand;
+
+    @BeforeEach
+    public void init() {
+        createOrderCommand = CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .address(OrderAddress.builder()
+                        .city("Paris")
+                        .postalCode("1000AB")
+                        .street("street_1")
+                        .build())
+                .price(new BigDecimal("200.00"))
+                .items(List.of(OrderItem.builder()
+                                .productId(PRODUCT_ID)
+                                .price(new BigDecimal("50.00"))
+                                .subTotal(new BigDecimal("200.00"))
+                                .quantity(4)
+                                .build()))
+                .build();
+        Customer customer = new Customer();
+        customer.setId(new CustomerId(CUSTOMER_ID));
+        Restaurant restaurant = Restaurant.Builder.builder()
+                .id(new RestaurantId(RESTAURANT_ID))
+                .products(List.of(new Product(new ProductId(PRODUCT_ID), "product-1",
+                        new Money(new BigDecimal("50.00")))))
+                .isActive(true)
+                .build();
+
+        when(customerRepository.findById(CUSTOMER_ID)).thenAnswer(invocation -> query(Optional.of(customer)));
+        when(restaurantRepository.findRestaurant(any())).thenAnswer(invocation -> query(Optional.of(restaurant)));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> query(invocation.getArgument(0)));
+        when(orderCreatedPaymentRequestMessagePublisher.awaitPublishCapacity(anyLong(), any())).thenReturn(true);
+    }
+
+    @Test
+    public void testConcurrentCreatesBeyondConnectionPoolSize() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_CREATES);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CreateOrderResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CREATES; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return orderApplicationService.createOrder(createOrderCommand);
+                }));
+            }
+            start.countDown();
+            for (Future<CreateOrderResponse> future : futures) {
+                assertEquals(OrderStatus.PENDING, future.get(30, TimeUnit.SECONDS).getOrderStatus());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(CONNECTIONS, connections.availablePermits());
+    }
+
+    // Stands in for one round trip: within a transaction on its connection, otherwise on a borrowed one.
+    private static <T> T query(T result) throws InterruptedException {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            Thread.sleep(20L);
+            return result;
+        }
+        acquireConnection();
+        try {
+            Thread.sleep(20L);
+            return result;
+        } finally {
+            connections.release();
+        }
+    }
+
+    private static void acquireConnection() throws InterruptedException {
+        if (!connections.tryAcquire(CONNECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            throw new CannotCreateTransactionException("Connection is not available, request timed out after " +
+                    CONNECTION_TIMEOUT_MS + " ms");
+        }
+    }
+
+    @EnableTransactionManagement(proxyTargetClass = true)
+    static class PooledTransactionConfiguration {
+
+        @Bean
+        public PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected boolean isExistingTransaction(Object transaction) {
+                    return TransactionSynchronizationManager.hasResource(this);
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                    try {
+                        acquireConnection();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CannotCreateTransactionException("Interrupted while waiting for a connection", e);
+                    }
+                    TransactionSynchronizationManager.bindResource(this, transaction);
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doCleanupAfterCompletion(Object transaction) {
+                    TransactionSynchronizationManager.unbindResource(this);
+                    connections.release();
+                }
+            };
+        }
+    }
+}
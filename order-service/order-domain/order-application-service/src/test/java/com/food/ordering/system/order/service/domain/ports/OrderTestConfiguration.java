@@ -6,14 +6,21 @@ import com.food.ordering.system.order.service.domain.ports.output.message.publis
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyKeyRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
 @ComponentScan("com.food.ordering.system")
 public class OrderTestConfiguration {
 
@@ -29,6 +36,12 @@ public class OrderTestConfiguration {
     @MockBean
     public OrderRepository orderRepository;
 
+    @MockBean
+    public OrderOutboxRepository orderOutboxRepository;
+
+    @MockBean
+    public OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+
     @MockBean
     public CustomerRepository customerRepository;
 
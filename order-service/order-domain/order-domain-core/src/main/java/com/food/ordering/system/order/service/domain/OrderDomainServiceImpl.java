@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
@@ -12,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 public class OrderDomainServiceImpl implements OrderDomainService {
@@ -31,14 +33,13 @@ public class OrderDomainServiceImpl implements OrderDomainService {
     }
 
     private void setOrderProductInformation(Order order, Restaurant restaurant) {
-        order.getItems().stream().forEach(orderItem -> {
+        Map<ProductId, Product> productIndex = restaurant.getProductIndex();
+        order.getItems().forEach(orderItem -> {
             Product itemProduct = orderItem.getProduct();
-            restaurant.getProducts().stream().forEach(restaurantProduct -> {
-                if (itemProduct.equals(restaurantProduct)) {
-                    itemProduct.updateWithConfirmNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
-                }
-            });
-
+            Product restaurantProduct = productIndex.get(itemProduct.getId());
+            if (restaurantProduct != null) {
+                itemProduct.updateWithConfirmNameAndPrice(restaurantProduct.getName(), restaurantProduct.getPrice());
+            }
         });
     }
 
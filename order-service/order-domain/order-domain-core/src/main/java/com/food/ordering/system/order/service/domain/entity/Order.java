@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.DomainIds;
 import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
@@ -54,12 +55,17 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     private void validateItemsPrice() {
-        Money totalPriceItems = items.stream().map(item -> {
+        long totalPriceItemsCents = 0L;
+        for (OrderItem item : items) {
             validateItemPrice(item);
-            return item.getSubTotal();
-        }).reduce(Money.ZERO, Money::add);
+            try {
+                totalPriceItemsCents = Math.addExact(totalPriceItemsCents, item.getSubTotal().getCents());
+            } catch (ArithmeticException e) {
+                throw new OrderDomainException("Total price of the items is out of range", e);
+            }
+        }
 
-        if (!totalPriceItems.equals(price)){
+        if (totalPriceItemsCents != price.getCents()){
             throw new OrderDomainException("Total price is not equals to the sum of the items");
         }
     }
@@ -110,7 +116,7 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     public void initializeOrder(){
-        setId(new OrderId(UUID.randomUUID()));
+        setId(new OrderId(DomainIds.newId()));
         trackingId = new TrackingId(UUID.randomUUID());
         orderStatus = OrderStatus.PENDING;
         initializeOrderItems();
@@ -140,8 +146,8 @@ public class Order extends AggregateRoot<OrderId> {
             return new Builder();
         }
 
-        public Builder id(OrderId orderId) {
-            orderId = orderId;
+        public Builder id(OrderId val) {
+            orderId = val;
             return this;
         }
 
@@ -170,8 +176,8 @@ public class Order extends AggregateRoot<OrderId> {
             return this;
         }
 
-        public Builder tracking(TrackingId trackingId) {
-            trackingId = trackingId;
+        public Builder tracking(TrackingId val) {
+            trackingId = val;
             return this;
         }
 
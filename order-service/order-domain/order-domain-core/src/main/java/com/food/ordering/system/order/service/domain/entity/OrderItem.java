@@ -3,6 +3,7 @@ package com.food.ordering.system.order.service.domain.entity;
 import com.food.ordering.system.domain.entity.BaseEntity;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
 
 public class OrderItem extends BaseEntity<OrderItemId> {
@@ -23,7 +24,15 @@ public class OrderItem extends BaseEntity<OrderItemId> {
     boolean isPriceValid(){
         return price.isGreaterThanZero() &&
                 price.equals(product.getPrice()) &&
-                price.multiply(quantity).equals(subTotal);
+                getPriceTimesQuantityCents() == subTotal.getCents();
+    }
+
+    private long getPriceTimesQuantityCents() {
+        try {
+            return Math.multiplyExact(price.getCents(), (long) quantity);
+        } catch (ArithmeticException e) {
+            throw new OrderDomainException("Sub total of product " + product.getId().getValue() + " is out of range", e);
+        }
     }
 
     void initializeOrderItem(OrderId id, long itemId) {
@@ -70,8 +79,8 @@ public class OrderItem extends BaseEntity<OrderItemId> {
             return new Builder();
         }
 
-        public Builder orderItemId(OrderItemId orderItemId) {
-            orderItemId = orderItemId;
+        public Builder orderItemId(OrderItemId val) {
+            orderItemId = val;
             return this;
         }
 
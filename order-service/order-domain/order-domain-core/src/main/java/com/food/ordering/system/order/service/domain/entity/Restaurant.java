@@ -1,25 +1,41 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
     private final List<Product> products;
+    private final Map<ProductId, Product> productIndex;
     private boolean isActive;
 
     private Restaurant(Builder builder) {
         this.setId(builder.restaurantId);
         products = builder.products;
+        productIndex = indexProducts(builder.products);
         isActive = builder.isActive;
     }
 
+    private static Map<ProductId, Product> indexProducts(List<Product> products) {
+        Map<ProductId, Product> productIndex = new HashMap<>();
+        if (products != null) {
+            products.forEach(product -> productIndex.put(product.getId(), product));
+        }
+        return productIndex;
+    }
 
     public List<Product> getProducts() {
         return products;
     }
 
+    public Map<ProductId, Product> getProductIndex() {
+        return productIndex;
+    }
+
     public boolean isActive() {
         return isActive;
     }
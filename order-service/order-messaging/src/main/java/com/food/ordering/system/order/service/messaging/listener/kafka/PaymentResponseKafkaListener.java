@@ -1,55 +1,60 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
-import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.consumer.dispatch.GroupRecordFailedException;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedBatchDispatcher;
+import com.food.ordering.system.order.service.domain.exception.OrderResponseBatchException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
-public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentResponseAvroModel> {
+public class PaymentResponseKafkaListener implements KafkaConsumer<SpecificRecordBase> {
 
     private final PaymentResponseMessageListener paymentResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedBatchDispatcher keyOrderedBatchDispatcher;
 
     public PaymentResponseKafkaListener(PaymentResponseMessageListener paymentResponseMessageListener,
-                                        OrderMessagingDataMapper orderMessagingDataMapper) {
+                                        OrderMessagingDataMapper orderMessagingDataMapper,
+                                        KeyOrderedBatchDispatcher keyOrderedBatchDispatcher) {
         this.paymentResponseMessageListener = paymentResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyOrderedBatchDispatcher = keyOrderedBatchDispatcher;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}",
             topics = "${order-service.payment-response-topic-name}")
-    public void receive(@Payload List<PaymentResponseAvroModel> messages,
+    public void receive(@Payload List<SpecificRecordBase> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
-                        @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        Acknowledgment acknowledgment) {
         log.info("{} number of paymentResponses received with keys {}, partitions {} and offset {}",
                 messages.size(),
                 keys.toString(),
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(paymentResponseAvroModel -> {
-            if (PaymentStatus.COMPLETED.equals(paymentResponseAvroModel.getPaymentStatus())){
-                log.info("Processing successful payment for order id {}", paymentResponseAvroModel.getOrderId());
-                paymentResponseMessageListener.paymentCompleted(
-                        orderMessagingDataMapper.paymentResponseAvroModelToPaymentCompleted(paymentResponseAvroModel));
-            } else if (PaymentStatus.FAILED.equals(paymentResponseAvroModel.getPaymentStatus()) ||
-                    PaymentStatus.CANCELLED.equals(paymentResponseAvroModel.getPaymentStatus())){
-                log.info("Processing unsuccessful payment for order id {}", paymentResponseAvroModel.getOrderId());
-                paymentResponseMessageListener.paymentCancelled(
-                        orderMessagingDataMapper.paymentResponseAvroModelToPaymentCompleted(paymentResponseAvroModel));
+        keyOrderedBatchDispatcher.dispatchGroups(messages, keys, acknowledgment, group -> {
+            try {
+                paymentResponseMessageListener.paymentResponsesReceived(group.stream()
+                        .map(orderMessagingDataMapper::avroModelToPaymentResponse)
+                        .collect(Collectors.toList()));
+            } catch (OrderResponseBatchException e) {
+                throw new GroupRecordFailedException(e.getFailedIndex(), e);
             }
         });
     }
@@ -1,39 +1,47 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.consumer.dispatch.GroupRecordFailedException;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedBatchDispatcher;
+import com.food.ordering.system.order.service.domain.exception.OrderResponseBatchException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
-public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<RestaurantApprovalResponseAvroModel> {
+public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<SpecificRecordBase> {
 
     private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KeyOrderedBatchDispatcher keyOrderedBatchDispatcher;
 
     public RestaurantApprovalResponseKafkaListener(RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
-                                                   OrderMessagingDataMapper orderMessagingDataMapper) {
+                                                   OrderMessagingDataMapper orderMessagingDataMapper,
+                                                   KeyOrderedBatchDispatcher keyOrderedBatchDispatcher) {
         this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
         this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.keyOrderedBatchDispatcher = keyOrderedBatchDispatcher;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
             topics = "${order-service.restaurant-approval-response-topic-name}")
-    public void receive(@Payload List<RestaurantApprovalResponseAvroModel> messages,
+    public void receive(@Payload List<SpecificRecordBase> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
-                        @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        Acknowledgment acknowledgment) {
 
         log.info("{} number of paymentResponses received with keys {}, partitions {} and offset {}",
                 messages.size(),
@@ -41,16 +49,13 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(message -> {
-            if (OrderApprovalStatus.APPROVED.equals(message.getOrderApprovalStatus())){
-                log.info("Processing approved order for order id {}", message.getOrderId());
-                restaurantApprovalResponseMessageListener.orderApproved(
-                        orderMessagingDataMapper.restaurantApprovalResponseAvroModelToRestaurantApprovalResponse(message));
-            } else if (OrderApprovalStatus.REJECTED.equals(message.getOrderApprovalStatus())){
-                log.info("Processing unapproved order id {} with failure messages {}", message.getOrderId(), String.join(",",
-                        message.getFailureMessages()));
-                restaurantApprovalResponseMessageListener.orderRejected(
-                        orderMessagingDataMapper.restaurantApprovalResponseAvroModelToRestaurantApprovalResponse(message));
+        keyOrderedBatchDispatcher.dispatchGroups(messages, keys, acknowledgment, group -> {
+            try {
+                restaurantApprovalResponseMessageListener.restaurantApprovalResponsesReceived(group.stream()
+                        .map(orderMessagingDataMapper::avroModelToRestaurantApprovalResponse)
+                        .collect(Collectors.toList()));
+            } catch (OrderResponseBatchException e) {
+                throw new GroupRecordFailedException(e.getFailedIndex(), e);
             }
         });
     }
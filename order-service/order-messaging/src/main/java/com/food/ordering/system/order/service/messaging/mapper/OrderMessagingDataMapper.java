@@ -1,7 +1,10 @@
 package com.food.ordering.system.order.service.messaging.mapper;
 
+import com.food.ordering.system.domain.id.DomainIds;
+import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.converter.UuidAvroConverter;
 import com.food.ordering.system.kafka.order.avro.model.*;
 import com.food.ordering.system.order.service.domain.dto.messages.PaymentResponse;
 import com.food.ordering.system.order.service.domain.dto.messages.RestaurantApprovalResponse;
@@ -9,9 +12,10 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.math.BigDecimal;
 import java.util.stream.Collectors;
 
 @Component
@@ -21,7 +25,7 @@ public class OrderMessagingDataMapper {
         Order order = orderCreatedEvent.getOrder();
         return PaymentRequestAvroModel.newBuilder()
                 .setOrderId(order.getId().toString())
-                .setId(UUID.randomUUID().toString())
+                .setId(DomainIds.newId().toString())
                 .setSagaId("")
                 .setCustomerId(order.getCustomerId().toString())
                 .setPrice(order.getPrice().getAmount())
@@ -34,7 +38,7 @@ public class OrderMessagingDataMapper {
         Order order = orderCancelledEvent.getOrder();
         return PaymentRequestAvroModel.newBuilder()
                 .setOrderId(order.getId().toString())
-                .setId(UUID.randomUUID().toString())
+                .setId(DomainIds.newId().toString())
                 .setSagaId("")
                 .setCustomerId(order.getCustomerId().toString())
                 .setPrice(order.getPrice().getAmount())
@@ -47,7 +51,7 @@ public class OrderMessagingDataMapper {
         Order order = orderPaidEvent.getOrder();
         return RestaurantApprovalRequestAvroModel.newBuilder()
                 .setOrderId(order.getId().toString())
-                .setId(UUID.randomUUID().toString())
+                .setId(DomainIds.newId().toString())
                 .setSagaId("")
                 .setPrice(order.getPrice().getAmount())
                 .setCreatedAt(orderPaidEvent.getCreatedAt().toInstant())
@@ -60,6 +64,65 @@ public class OrderMessagingDataMapper {
                 .build();
     }
 
+    public PaymentRequestAvroModelV2 orderCreatedEventToPaymentRequestAvroModelV2(OrderCreatedEvent orderCreatedEvent){
+        Order order = orderCreatedEvent.getOrder();
+        return PaymentRequestAvroModelV2.newBuilder()
+                .setOrderId(UuidAvroConverter.toAvro(order.getId().getValue()))
+                .setId(UuidAvroConverter.toAvro(DomainIds.newId()))
+                .setSagaId(null)
+                .setCustomerId(UuidAvroConverter.toAvro(order.getCustomerId().getValue()))
+                .setPriceCents(order.getPrice().getCents())
+                .setCreatedAt(orderCreatedEvent.getCreatedAt().toInstant())
+                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+    }
+
+    public PaymentRequestAvroModelV2 orderCancelledEventToPaymentRequestAvroModelV2(OrderCancelledEvent orderCancelledEvent){
+        Order order = orderCancelledEvent.getOrder();
+        return PaymentRequestAvroModelV2.newBuilder()
+                .setOrderId(UuidAvroConverter.toAvro(order.getId().getValue()))
+                .setId(UuidAvroConverter.toAvro(DomainIds.newId()))
+                .setSagaId(null)
+                .setCustomerId(UuidAvroConverter.toAvro(order.getCustomerId().getValue()))
+                .setPriceCents(order.getPrice().getCents())
+                .setCreatedAt(orderCancelledEvent.getCreatedAt().toInstant())
+                .setPaymentOrderStatus(PaymentOrderStatus.CANCELLED)
+                .build();
+    }
+
+    public RestaurantApprovalRequestAvroModelV2 orderPaidEventToRestaurantApprovalRequestAvroModelV2(OrderPaidEvent orderPaidEvent){
+        Order order = orderPaidEvent.getOrder();
+        return RestaurantApprovalRequestAvroModelV2.newBuilder()
+                .setOrderId(UuidAvroConverter.toAvro(order.getId().getValue()))
+                .setId(UuidAvroConverter.toAvro(DomainIds.newId()))
+                .setSagaId(null)
+                .setPriceCents(order.getPrice().getCents())
+                .setCreatedAt(orderPaidEvent.getCreatedAt().toInstant())
+                .setRestaurantId(UuidAvroConverter.toAvro(order.getRestaurantId().getValue()))
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .setProducts(order.getItems().stream().map(item -> ProductV2.newBuilder()
+                        .setId(UuidAvroConverter.toAvro(item.getProduct().getId().getValue()))
+                        .setQuantity(item.getQuantity())
+                        .build()).collect(Collectors.toList()))
+                .build();
+    }
+
+    public PaymentResponse avroModelToPaymentResponse(SpecificRecordBase avroModel) {
+        if (avroModel instanceof PaymentResponseAvroModelV2 paymentResponseAvroModelV2) {
+            return paymentResponseAvroModelV2ToPaymentResponse(paymentResponseAvroModelV2);
+        }
+        return paymentResponseAvroModelToPaymentCompleted((PaymentResponseAvroModel) avroModel);
+    }
+
+    public RestaurantApprovalResponse avroModelToRestaurantApprovalResponse(SpecificRecordBase avroModel) {
+        if (avroModel instanceof RestaurantApprovalResponseAvroModelV2 restaurantApprovalResponseAvroModelV2) {
+            return restaurantApprovalResponseAvroModelV2ToRestaurantApprovalResponse(
+                    restaurantApprovalResponseAvroModelV2);
+        }
+        return restaurantApprovalResponseAvroModelToRestaurantApprovalResponse(
+                (RestaurantApprovalResponseAvroModel) avroModel);
+    }
+
     public PaymentResponse paymentResponseAvroModelToPaymentCompleted(PaymentResponseAvroModel paymentResponseAvroModel) {
         return PaymentResponse.builder()
                 .id(paymentResponseAvroModel.getId())
@@ -86,4 +149,31 @@ public class OrderMessagingDataMapper {
                 .failureMessages(restaurantApprovalResponseAvroModel.getFailureMessages())
                 .build();
     }
+
+    public PaymentResponse paymentResponseAvroModelV2ToPaymentResponse(PaymentResponseAvroModelV2 paymentResponseAvroModel) {
+        return PaymentResponse.builder()
+                .id(UuidAvroConverter.toString(paymentResponseAvroModel.getId()))
+                .orderId(UuidAvroConverter.toString(paymentResponseAvroModel.getOrderId()))
+                .paymentId(UuidAvroConverter.toString(paymentResponseAvroModel.getPaymentId()))
+                .price(BigDecimal.valueOf(paymentResponseAvroModel.getPriceCents(), Money.SCALE))
+                .paymentStatus(PaymentStatus.valueOf(paymentResponseAvroModel.getPaymentStatus().name()))
+                .sagaId(UuidAvroConverter.toString(paymentResponseAvroModel.getSagaId()))
+                .customerId(UuidAvroConverter.toString(paymentResponseAvroModel.getCustomerId()))
+                .createdAt(paymentResponseAvroModel.getCreatedAt())
+                .failureMessages(paymentResponseAvroModel.getFailureMessages())
+                .build();
+    }
+
+    public RestaurantApprovalResponse restaurantApprovalResponseAvroModelV2ToRestaurantApprovalResponse
+            (RestaurantApprovalResponseAvroModelV2 restaurantApprovalResponseAvroModel) {
+        return RestaurantApprovalResponse.builder()
+                .id(UuidAvroConverter.toString(restaurantApprovalResponseAvroModel.getId()))
+                .restaurantId(UuidAvroConverter.toString(restaurantApprovalResponseAvroModel.getRestaurantId()))
+                .orderId(UuidAvroConverter.toString(restaurantApprovalResponseAvroModel.getOrderId()))
+                .orderApprovalStatus(OrderApprovalStatus.valueOf(restaurantApprovalResponseAvroModel.getOrderApprovalStatus().name()))
+                .createdAt(restaurantApprovalResponseAvroModel.getCreatedAt())
+                .sagaId(UuidAvroConverter.toString(restaurantApprovalResponseAvroModel.getSagaId()))
+                .failureMessages(restaurantApprovalResponseAvroModel.getFailureMessages())
+                .build();
+    }
 }
@@ -1,29 +1,38 @@
 package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
 import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.KafkaProducerProfiles;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedMessage;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Component
 public class CancelOrderKafkaMessageProducer implements OrderCancelledPaymentRequestMessagePublisher {
 
     private final OrderMessagingDataMapper orderMessagingDataMapper;
     private final OrderServiceConfigData orderServiceConfigData;
-    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
     private final KafkaMessageHelper orderKafkaMessageHelper;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
 
-    public CancelOrderKafkaMessageProducer(OrderMessagingDataMapper orderMessagingDataMapper, OrderServiceConfigData orderServiceConfigData, KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer, KafkaMessageHelper orderKafkaMessageHelper) {
+    public CancelOrderKafkaMessageProducer(OrderMessagingDataMapper orderMessagingDataMapper, OrderServiceConfigData orderServiceConfigData, KafkaProducerProfiles<String, SpecificRecordBase> kafkaProducerProfiles, KafkaMessageHelper orderKafkaMessageHelper, KafkaProducerConfigData kafkaProducerConfigData) {
         this.orderMessagingDataMapper = orderMessagingDataMapper;
         this.orderServiceConfigData = orderServiceConfigData;
-        this.kafkaProducer = kafkaProducer;
+        this.kafkaProducer = kafkaProducerProfiles.forProfile(KafkaProducerConfigData.INTERACTIVE_PROFILE);
         this.orderKafkaMessageHelper = orderKafkaMessageHelper;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
     }
 
     @Override
@@ -32,14 +41,13 @@ public class CancelOrderKafkaMessageProducer implements OrderCancelledPaymentReq
         log.info("Received OrderCancelledEvent for order {}", orderId);
 
         try {
-            PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper.
-                    orderCancelledEventToPaymentApprovalAvroModel(domainEvent);
+            SpecificRecordBase paymentRequestAvroModel = toPaymentRequestAvroModel(domainEvent);
 
             kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(),
                     orderId,
                     paymentRequestAvroModel,
                     orderKafkaMessageHelper.getKafkaCallBack(
-                            orderServiceConfigData.getPaymentResponseTopicName(),
+                            orderServiceConfigData.getPaymentRequestTopicName(),
                             paymentRequestAvroModel,
                             orderId,
                             "PaymentRequestAvroModel")
@@ -50,4 +58,24 @@ public class CancelOrderKafkaMessageProducer implements OrderCancelledPaymentReq
             log.error("Error while sending paymentRequestAvroModel message to kafka. order {}" , orderId);
         }
     }
+
+    @Override
+    public Set<Integer> publishAll(List<OrderCancelledEvent> domainEvents) {
+        List<KeyedMessage<String, SpecificRecordBase>> messages = new ArrayList<>(domainEvents.size());
+        for (OrderCancelledEvent domainEvent : domainEvents) {
+            messages.add(new KeyedMessage<>(domainEvent.getOrder().getId().getValue().toString(),
+                    toPaymentRequestAvroModel(domainEvent)));
+        }
+        Set<Integer> failedIndexes = orderKafkaMessageHelper.sendAll(kafkaProducer,
+                orderServiceConfigData.getPaymentRequestTopicName(), messages, "PaymentRequestAvroModel");
+        log.info("{} of {} PaymentRequestAvroModel messages sent to Kafka", messages.size() - failedIndexes.size(),
+                messages.size());
+        return failedIndexes;
+    }
+
+    private SpecificRecordBase toPaymentRequestAvroModel(OrderCancelledEvent domainEvent) {
+        return kafkaProducerConfigData.getAvroSchemaVersion() == 2 ?
+                orderMessagingDataMapper.orderCancelledEventToPaymentRequestAvroModelV2(domainEvent) :
+                orderMessagingDataMapper.orderCancelledEventToPaymentApprovalAvroModel(domainEvent);
+    }
 }
@@ -1,29 +1,39 @@
 package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
 import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.KafkaProducerProfiles;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedMessage;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Component
 public class CreateOrderKafkaMessageProducer implements OrderCreatedPaymentRequestMessagePublisher {
 
     private final OrderMessagingDataMapper orderMessagingDataMapper;
     private final OrderServiceConfigData orderServiceConfigData;
-    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
     private final KafkaMessageHelper orderKafkaMessageHelper;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
 
-    public CreateOrderKafkaMessageProducer(OrderMessagingDataMapper orderMessagingDataMapper, OrderServiceConfigData orderServiceConfigData, KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer, KafkaMessageHelper orderKafkaMessageHelper) {
+    public CreateOrderKafkaMessageProducer(OrderMessagingDataMapper orderMessagingDataMapper, OrderServiceConfigData orderServiceConfigData, KafkaProducerProfiles<String, SpecificRecordBase> kafkaProducerProfiles, KafkaMessageHelper orderKafkaMessageHelper, KafkaProducerConfigData kafkaProducerConfigData) {
         this.orderMessagingDataMapper = orderMessagingDataMapper;
         this.orderServiceConfigData = orderServiceConfigData;
-        this.kafkaProducer = kafkaProducer;
+        this.kafkaProducer = kafkaProducerProfiles.forProfile(KafkaProducerConfigData.INTERACTIVE_PROFILE);
         this.orderKafkaMessageHelper = orderKafkaMessageHelper;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
     }
 
     @Override
@@ -32,14 +42,13 @@ public class CreateOrderKafkaMessageProducer implements OrderCreatedPaymentReque
         log.info("Received orderCreatedEvent for order {}", orderId);
 
         try {
-            PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper.
-                    orderCreatedEventToPaymentApprovalAvroModel(domainEvent);
+            SpecificRecordBase paymentRequestAvroModel = toPaymentRequestAvroModel(domainEvent);
 
             kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(),
                     orderId,
                     paymentRequestAvroModel,
                     orderKafkaMessageHelper.getKafkaCallBack(
-                            orderServiceConfigData.getPaymentResponseTopicName(),
+                            orderServiceConfigData.getPaymentRequestTopicName(),
                             paymentRequestAvroModel,
                             orderId,
                             "PaymentRequestAvroModel")
@@ -50,4 +59,29 @@ public class CreateOrderKafkaMessageProducer implements OrderCreatedPaymentReque
             log.error("Error while sending paymentRequestAvroModel message to kafka. order {}" , orderId);
         }
     }
+
+    @Override
+    public Set<Integer> publishAll(List<OrderCreatedEvent> domainEvents) {
+        List<KeyedMessage<String, SpecificRecordBase>> messages = new ArrayList<>(domainEvents.size());
+        for (OrderCreatedEvent domainEvent : domainEvents) {
+            messages.add(new KeyedMessage<>(domainEvent.getOrder().getId().getValue().toString(),
+                    toPaymentRequestAvroModel(domainEvent)));
+        }
+        Set<Integer> failedIndexes = orderKafkaMessageHelper.sendAll(kafkaProducer,
+                orderServiceConfigData.getPaymentRequestTopicName(), messages, "PaymentRequestAvroModel");
+        log.info("{} of {} PaymentRequestAvroModel messages sent to Kafka", messages.size() - failedIndexes.size(),
+                messages.size());
+        return failedIndexes;
+    }
+
+    @Override
+    public boolean awaitPublishCapacity(long timeout, TimeUnit unit) {
+        return kafkaProducer.awaitSendPermit(orderServiceConfigData.getPaymentRequestTopicName(), timeout, unit);
+    }
+
+    private SpecificRecordBase toPaymentRequestAvroModel(OrderCreatedEvent domainEvent) {
+        return kafkaProducerConfigData.getAvroSchemaVersion() == 2 ?
+                orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModelV2(domainEvent) :
+                orderMessagingDataMapper.orderCreatedEventToPaymentApprovalAvroModel(domainEvent);
+    }
 }
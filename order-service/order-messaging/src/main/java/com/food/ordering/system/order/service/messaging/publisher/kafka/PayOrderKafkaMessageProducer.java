@@ -1,32 +1,42 @@
 package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
 import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.KafkaProducerProfiles;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedMessage;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Component
 public class PayOrderKafkaMessageProducer implements OrderPaidRestaurantRequestMessagePublisher {
 
     private final OrderMessagingDataMapper orderMessagingDataMapper;
     private final OrderServiceConfigData orderServiceConfigData;
-    private final KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
     private final KafkaMessageHelper orderKafkaMessageHelper;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
 
     public PayOrderKafkaMessageProducer(OrderMessagingDataMapper orderMessagingDataMapper,
                                         OrderServiceConfigData orderServiceConfigData,
-                                        KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer,
-                                        KafkaMessageHelper orderKafkaMessageHelper) {
+                                        KafkaProducerProfiles<String, SpecificRecordBase> kafkaProducerProfiles,
+                                        KafkaMessageHelper orderKafkaMessageHelper,
+                                        KafkaProducerConfigData kafkaProducerConfigData) {
         this.orderMessagingDataMapper = orderMessagingDataMapper;
         this.orderServiceConfigData = orderServiceConfigData;
-        this.kafkaProducer = kafkaProducer;
+        this.kafkaProducer = kafkaProducerProfiles.forProfile(KafkaProducerConfigData.INTERACTIVE_PROFILE);
         this.orderKafkaMessageHelper = orderKafkaMessageHelper;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
     }
 
     @Override
@@ -35,21 +45,41 @@ public class PayOrderKafkaMessageProducer implements OrderPaidRestaurantRequestM
         log.info("Received OrderPaidEvent for order {}", orderId);
 
         try {
-            RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = orderMessagingDataMapper.
-                    orderPaidEventToPaymentApprovalAvroModel(domainEvent);
+            SpecificRecordBase restaurantApprovalRequestAvroModel = toRestaurantApprovalRequestAvroModel(domainEvent);
 
-            kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(),
+            kafkaProducer.send(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
                     orderId,
                     restaurantApprovalRequestAvroModel,
-                    orderKafkaMessageHelper.getKafkaCallBack(orderServiceConfigData.getPaymentResponseTopicName(),
+                    orderKafkaMessageHelper.getKafkaCallBack(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
                             restaurantApprovalRequestAvroModel,
                             orderId,
                             "RestaurantApprovalRequestAvroModel")
             );
-            log.info("PaymentRequestAvroModel sent to Kafka for order {}", orderId);
+            log.info("RestaurantApprovalRequestAvroModel sent to Kafka for order {}", orderId);
 
         } catch (Exception e) {
-            log.error("Error while sending paymentRequestAvroModel message to kafka. order {}" , orderId);
+            log.error("Error while sending RestaurantApprovalRequestAvroModel message to kafka. order {}" , orderId);
         }
     }
+
+    @Override
+    public Set<Integer> publishAll(List<OrderPaidEvent> domainEvents) {
+        List<KeyedMessage<String, SpecificRecordBase>> messages = new ArrayList<>(domainEvents.size());
+        for (OrderPaidEvent domainEvent : domainEvents) {
+            messages.add(new KeyedMessage<>(domainEvent.getOrder().getId().getValue().toString(),
+                    toRestaurantApprovalRequestAvroModel(domainEvent)));
+        }
+        Set<Integer> failedIndexes = orderKafkaMessageHelper.sendAll(kafkaProducer,
+                orderServiceConfigData.getRestaurantApprovalRequestTopicName(), messages,
+                "RestaurantApprovalRequestAvroModel");
+        log.info("{} of {} RestaurantApprovalRequestAvroModel messages sent to Kafka",
+                messages.size() - failedIndexes.size(), messages.size());
+        return failedIndexes;
+    }
+
+    private SpecificRecordBase toRestaurantApprovalRequestAvroModel(OrderPaidEvent domainEvent) {
+        return kafkaProducerConfigData.getAvroSchemaVersion() == 2 ?
+                orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModelV2(domainEvent) :
+                orderMessagingDataMapper.orderPaidEventToPaymentApprovalAvroModel(domainEvent);
+    }
 }
@@ -26,6 +26,7 @@ public class PaymentEntity {
     @Enumerated(EnumType.STRING)
     private PaymentStatus status;
     private ZonedDateTime createdAt;
+    private String failureMessages;
 
     @Override
     public boolean equals(Object o) {
@@ -8,6 +8,10 @@ import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.valueobject.PaymentId;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
 @Component
 public class PaymentDataAccessMapper {
 
@@ -19,16 +23,22 @@ public class PaymentDataAccessMapper {
                 .price(payment.getPrice().getAmount())
                 .status(payment.getPaymentStatus())
                 .createdAt(payment.getCreatedAt())
+                .failureMessages(Objects.nonNull(payment.getFailureMessages()) ?
+                        String.join(",", payment.getFailureMessages()) : "")
                 .build();
     }
 
     public Payment paymentEntityToPayment(PaymentEntity paymentEntity) {
-        return Payment.builder()
+        return Payment.Builder.newBuilder()
                 .paymentId(new PaymentId(paymentEntity.getId()))
                 .customerId(new CustomerId(paymentEntity.getCustomerId()))
                 .orderId(new OrderId(paymentEntity.getOrderId()))
                 .price(new Money(paymentEntity.getPrice()))
+                .paymentStatus(paymentEntity.getStatus())
                 .createdAt(paymentEntity.getCreatedAt())
+                .failureMessages(Objects.isNull(paymentEntity.getFailureMessages()) ||
+                        paymentEntity.getFailureMessages().isEmpty() ? List.of() :
+                        Arrays.stream(paymentEntity.getFailureMessages().split(",")).toList())
                 .build();
     }
 
@@ -5,9 +5,11 @@ import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.exception.PaymentDomainException;
 import com.food.ordering.system.payment.service.domain.valueobject.PaymentId;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
 @Component
@@ -16,7 +18,15 @@ public class PaymentDataMapper {
         return Payment.Builder.newBuilder()
                 .orderId(new OrderId(UUID.fromString(paymentRequest.getId())))
                 .customerId(new CustomerId(UUID.fromString(paymentRequest.getId())))
-                .price(new Money(paymentRequest.getPrice()))
+                .price(toMoney(paymentRequest.getPrice()))
                 .build();
     }
+
+    private static Money toMoney(BigDecimal amount) {
+        try {
+            return new Money(amount);
+        } catch (ArithmeticException e) {
+            throw new PaymentDomainException("Amount " + amount.toPlainString() + " is out of range", e);
+        }
+    }
 }
@@ -1,11 +1,15 @@
 package com.food.ordering.system.payment.service.domain.ports;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.PaymentDomainService;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
 import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
 import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
@@ -16,8 +20,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -41,9 +49,20 @@ public class PaymentRequestHelper {
         this.creditHistoryRepository = creditHistoryRepository;
     }
 
+    /**
+     * For a redelivered request the order already has a payment, whose outcome is returned again: the response to
+     * the first delivery may never have been sent.
+     */
     @Transactional
     public PaymentEvent persistPayment(PaymentRequest paymentRequest){
         log.info("Received payment for order id {}", paymentRequest.getOrderId());
+        Optional<Payment> existingPayment =
+                paymentRepository.findByOrderId(UUID.fromString(paymentRequest.getOrderId()));
+        if (existingPayment.isPresent()) {
+            log.info("Payment for order id {} already exists, publishing its outcome again",
+                    paymentRequest.getOrderId());
+            return toPaymentEvent(existingPayment.get());
+        }
         Payment payment = paymentDataMapper.PaymentRequestToPayment(paymentRequest);
         CreditEntry creditEntry = getCreditEntry(paymentRequest);
         List<CreditHistory> creditHistories = getCreditHistory(paymentRequest);
@@ -54,11 +73,19 @@ public class PaymentRequestHelper {
         return paymentEvent;
     }
 
+    /**
+     * For a redelivered request the payment is already cancelled, and the cancellation is returned again.
+     */
     @Transactional
     public PaymentEvent persistCancelPayment(PaymentRequest paymentRequest){
         log.info("Received payment rollback for order id {}", paymentRequest.getOrderId());
         Payment payment = paymentRepository.findByOrderId(UUID.fromString(paymentRequest.getOrderId()))
                 .orElseThrow(()->new PaymentApplicationServiceException("There is no payment registered for order " + paymentRequest.getOrderId()));
+        if (PaymentStatus.CANCELLED == payment.getPaymentStatus()) {
+            log.info("Payment for order id {} is already cancelled, publishing its outcome again",
+                    paymentRequest.getOrderId());
+            return toPaymentEvent(payment);
+        }
         CreditEntry creditEntry = getCreditEntry(paymentRequest);
         List<CreditHistory> creditHistories = getCreditHistory(paymentRequest);
         List<String> failureMessages = new ArrayList<>();
@@ -68,6 +95,16 @@ public class PaymentRequestHelper {
         return paymentEvent;
     }
 
+    private PaymentEvent toPaymentEvent(Payment payment) {
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneId.of("UTC"));
+        return switch (payment.getPaymentStatus()) {
+            case COMPLETED -> new PaymentCompletedEvent(payment, createdAt);
+            case CANCELLED -> new PaymentCancelledEvent(payment, createdAt);
+            case FAILED -> new PaymentFailedEvent(payment, createdAt,
+                    Objects.requireNonNullElse(payment.getFailureMessages(), List.of()));
+        };
+    }
+
     private void persistDbObjects(Payment payment, CreditEntry creditEntry, List<CreditHistory> creditHistories, List<String> failureMessages) {
         paymentRepository.save(payment);
         if (failureMessages.isEmpty()){
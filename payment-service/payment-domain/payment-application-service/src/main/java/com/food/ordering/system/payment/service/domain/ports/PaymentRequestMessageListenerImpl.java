@@ -1,17 +1,25 @@
 package com.food.ordering.system.payment.service.domain.ports;
 
+import com.food.ordering.system.domain.valueobject.OrderPaymentStatus;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.exception.PaymentRequestBatchException;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCancelledMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCompletedMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentResponseMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Service
 public class PaymentRequestMessageListenerImpl implements PaymentRequestMessageListener {
@@ -20,27 +28,72 @@ public class PaymentRequestMessageListenerImpl implements PaymentRequestMessageL
     private final PaymentCompletedMessagePublisher paymentCompletedMessagePublisher;
     private final PaymentCancelledMessagePublisher paymentCancelledMessagePublisher;
     private final PaymentFailedMessagePublisher paymentFailedMessagePublisher;
+    private final PaymentResponseMessagePublisher paymentResponseMessagePublisher;
 
     public PaymentRequestMessageListenerImpl(PaymentRequestHelper paymentRequestHelper,
                                              PaymentCompletedMessagePublisher paymentCompletedMessagePublisher,
                                              PaymentCancelledMessagePublisher paymentCancelledMessagePublisher,
-                                             PaymentFailedMessagePublisher paymentFailedMessagePublisher) {
+                                             PaymentFailedMessagePublisher paymentFailedMessagePublisher,
+                                             PaymentResponseMessagePublisher paymentResponseMessagePublisher) {
         this.paymentRequestHelper = paymentRequestHelper;
         this.paymentCompletedMessagePublisher = paymentCompletedMessagePublisher;
         this.paymentCancelledMessagePublisher = paymentCancelledMessagePublisher;
         this.paymentFailedMessagePublisher = paymentFailedMessagePublisher;
+        this.paymentResponseMessagePublisher = paymentResponseMessagePublisher;
     }
 
     @Override
     public void completePayment(PaymentRequest paymentRequest) {
-        PaymentEvent paymentEvent = paymentRequestHelper.persistPayment(paymentRequest);
-        fireEvent(paymentEvent);
+        fireEvent(paymentRequestHelper.persistPayment(paymentRequest));
     }
 
     @Override
     public void cancelPayment(PaymentRequest paymentRequest) {
-        PaymentEvent paymentEvent = paymentRequestHelper.persistPayment(paymentRequest);
-        fireEvent(paymentEvent);
+        fireEvent(paymentRequestHelper.persistCancelPayment(paymentRequest));
+    }
+
+    @Override
+    public void paymentRequestsReceived(List<PaymentRequest> paymentRequests) {
+        List<PaymentEvent> paymentEvents = new ArrayList<>(paymentRequests.size());
+        List<Integer> requestIndexes = new ArrayList<>(paymentRequests.size());
+        PaymentRequestBatchException processingFailure = null;
+        for (int index = 0; index < paymentRequests.size(); index++) {
+            PaymentRequest paymentRequest = paymentRequests.get(index);
+            try {
+                PaymentEvent paymentEvent = persist(paymentRequest);
+                if (paymentEvent != null) {
+                    paymentEvents.add(paymentEvent);
+                    requestIndexes.add(index);
+                }
+            } catch (RuntimeException e) {
+                processingFailure = new PaymentRequestBatchException("Could not process payment request for " +
+                        "order id: " + paymentRequest.getOrderId(), index, e);
+                break;
+            }
+        }
+
+        Set<Integer> failedIndexes = paymentEvents.isEmpty() ? Set.of() :
+                paymentResponseMessagePublisher.publishAll(paymentEvents);
+        if (!failedIndexes.isEmpty()) {
+            int failedIndex = requestIndexes.get(Collections.min(failedIndexes));
+            throw new PaymentRequestBatchException("Could not send payment response for order id: " +
+                    paymentRequests.get(failedIndex).getOrderId(), failedIndex);
+        }
+        if (processingFailure != null) {
+            throw processingFailure;
+        }
+    }
+
+    private PaymentEvent persist(PaymentRequest paymentRequest) {
+        if (OrderPaymentStatus.PENDING == paymentRequest.getOrderPaymentStatus()) {
+            log.info("Processing payment for order id: {}", paymentRequest.getOrderId());
+            return paymentRequestHelper.persistPayment(paymentRequest);
+        }
+        if (OrderPaymentStatus.CANCELLED == paymentRequest.getOrderPaymentStatus()) {
+            log.info("Cancelling payment for order id: {}", paymentRequest.getOrderId());
+            return paymentRequestHelper.persistCancelPayment(paymentRequest);
+        }
+        return null;
     }
 
     private void fireEvent(PaymentEvent paymentEvent) {
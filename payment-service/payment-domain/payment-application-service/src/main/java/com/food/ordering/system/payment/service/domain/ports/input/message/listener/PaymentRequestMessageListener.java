@@ -2,9 +2,19 @@ package com.food.ordering.system.payment.service.domain.ports.input.message.list
 
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 
+import java.util.List;
+
 public interface PaymentRequestMessageListener {
 
     void completePayment(PaymentRequest paymentRequest);
 
     void cancelPayment(PaymentRequest paymentRequest);
+
+    /**
+     * Processes the requests in order, then sends their responses together and waits for each of them.
+     *
+     * @throws com.food.ordering.system.payment.service.domain.exception.PaymentRequestBatchException at the first
+     * request that could not be processed or whose response could not be sent
+     */
+    void paymentRequestsReceived(List<PaymentRequest> paymentRequests);
 }
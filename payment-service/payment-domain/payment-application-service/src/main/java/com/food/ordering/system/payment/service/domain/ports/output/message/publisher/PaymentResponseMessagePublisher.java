@@ -0,0 +1,10 @@
+package com.food.ordering.system.payment.service.domain.ports.output.message.publisher;
+
+import com.food.ordering.system.domain.event.publisher.BatchDomainEventPublisher;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+
+/**
+ * Publishes completed, cancelled and failed payments alike, so the responses of a batch keep their order.
+ */
+public interface PaymentResponseMessagePublisher extends BatchDomainEventPublisher<PaymentEvent> {
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.payment.service.domain;
 
+import com.food.ordering.system.domain.id.DomainIds;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
@@ -8,6 +9,7 @@ import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEve
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.exception.PaymentDomainException;
 import com.food.ordering.system.payment.service.domain.valueobject.CreditEntry;
 import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
 import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
@@ -16,7 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 public class PaymentDomainServiceImpl implements PaymentDomainService {
@@ -39,7 +40,7 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
             return new PaymentCompletedEvent(payment, ZonedDateTime.now(ZoneId.of("UTC")));
         } else {
             log.info("Payment failed for order id {}", payment.getOrderId().getValue());
-            payment.updateStatus(PaymentStatus.FAILED);
+            payment.updateStatus(PaymentStatus.FAILED, failureMessages);
             return new PaymentFailedEvent(payment, ZonedDateTime.now(ZoneId.of("UTC")), failureMessages);
         }
     }
@@ -52,17 +53,33 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
             failureMessages.add(String.format("Customer with id %s doesn't have enough credit for payment", creditEntry.getCustomerId()));
         }
 
-        if (!creditEntry.getTotalCreditAmount().equals(totalCredit.subtract(totalDebit))){
+        if (!creditEntry.getTotalCreditAmount().equals(subtract(totalCredit, totalDebit))){
             log.error("Credit total is not equal to current credit for customer {}", creditEntry.getCustomerId());
             failureMessages.add(String.format("Credit total is not equal to current credit for customer %s", creditEntry.getCustomerId()));
         }
     }
 
     private static Money getTotalAmountByTransactionType(List<CreditHistory> creditHistories, TransactionType transactionType) {
-        return creditHistories.stream()
-                .filter(creditHistory -> transactionType.equals(creditHistory.getTransactionType()))
-                .map(CreditHistory::getAmount)
-                .reduce(Money.ZERO, Money::add);
+        long totalAmountCents = 0L;
+        for (CreditHistory creditHistory : creditHistories) {
+            if (transactionType.equals(creditHistory.getTransactionType())) {
+                try {
+                    totalAmountCents = Math.addExact(totalAmountCents, creditHistory.getAmount().getCents());
+                } catch (ArithmeticException e) {
+                    throw new PaymentDomainException("Total " + transactionType + " amount of customer " +
+                            creditHistory.getCustomerId().getValue() + " is out of range", e);
+                }
+            }
+        }
+        return Money.ofCents(totalAmountCents);
+    }
+
+    private static Money subtract(Money money, Money subtrahend) {
+        try {
+            return money.subtract(subtrahend);
+        } catch (ArithmeticException e) {
+            throw new PaymentDomainException("Credit balance is out of range", e);
+        }
     }
 
     private void updateCreditHistory(Payment payment, List<CreditHistory> creditHistories, TransactionType transactionType) {
@@ -70,7 +87,7 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
                         .amount(payment.getPrice())
                         .customerId(payment.getCustomerId())
                         .transactionType(transactionType)
-                        .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+                        .creditHistoryId(new CreditHistoryId(DomainIds.newId()))
                         .build());
     }
 
@@ -99,7 +116,7 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
             return new PaymentCancelledEvent(payment, ZonedDateTime.now(ZoneId.of("UTC")));
         } else {
             log.info("Payment cancellation failed for order id {}", payment.getOrderId().getValue());
-            payment.updateStatus(PaymentStatus.FAILED);
+            payment.updateStatus(PaymentStatus.FAILED, failureMessages);
             return new PaymentFailedEvent(payment, ZonedDateTime.now(ZoneId.of("UTC")), failureMessages);
         }
     }
@@ -1,6 +1,7 @@
 package com.food.ordering.system.payment.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.DomainIds;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderId;
@@ -11,7 +12,6 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 public class Payment extends AggregateRoot<PaymentId> {
 
@@ -21,9 +21,10 @@ public class Payment extends AggregateRoot<PaymentId> {
 
     private PaymentStatus paymentStatus;
     private ZonedDateTime createdAt;
+    private List<String> failureMessages;
 
     public void initializePayment(){
-        setId(new PaymentId(UUID.randomUUID()));
+        setId(new PaymentId(DomainIds.newId()));
         createdAt = ZonedDateTime.now(ZoneId.of("UTC"));
     }
 
@@ -36,6 +37,11 @@ public class Payment extends AggregateRoot<PaymentId> {
     public void updateStatus(PaymentStatus paymentStatus){
         this.paymentStatus = paymentStatus;
     }
+
+    public void updateStatus(PaymentStatus paymentStatus, List<String> failureMessages){
+        this.paymentStatus = paymentStatus;
+        this.failureMessages = failureMessages;
+    }
     private Payment(Builder builder) {
         setId(builder.paymentId);
         orderId = builder.orderId;
@@ -43,6 +49,7 @@ public class Payment extends AggregateRoot<PaymentId> {
         price = builder.price;
         paymentStatus = builder.paymentStatus;
         createdAt = builder.createdAt;
+        failureMessages = builder.failureMessages;
     }
     public OrderId getOrderId() {
         return orderId;
@@ -64,6 +71,10 @@ public class Payment extends AggregateRoot<PaymentId> {
         return createdAt;
     }
 
+    public List<String> getFailureMessages() {
+        return failureMessages;
+    }
+
     public static final class Builder {
         private PaymentId paymentId;
         private OrderId orderId;
@@ -71,6 +82,7 @@ public class Payment extends AggregateRoot<PaymentId> {
         private Money price;
         private PaymentStatus paymentStatus;
         private ZonedDateTime createdAt;
+        private List<String> failureMessages;
 
         private Builder() {
         }
@@ -109,6 +121,11 @@ public class Payment extends AggregateRoot<PaymentId> {
             return this;
         }
 
+        public Builder failureMessages(List<String> val) {
+            failureMessages = val;
+            return this;
+        }
+
         public Payment build() {
             return new Payment(this);
         }
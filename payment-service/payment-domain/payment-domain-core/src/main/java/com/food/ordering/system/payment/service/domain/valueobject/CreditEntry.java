@@ -4,6 +4,7 @@ import com.food.ordering.system.domain.entity.BaseEntity;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.exception.PaymentDomainException;
 
 public class CreditEntry extends BaseEntity<CreditEntryId> {
 
@@ -17,11 +18,19 @@ public class CreditEntry extends BaseEntity<CreditEntryId> {
     }
 
     public void addCreditAmount(Money amount){
-        totalCreditAmount = totalCreditAmount.add(amount);
+        try {
+            totalCreditAmount = totalCreditAmount.add(amount);
+        } catch (ArithmeticException e) {
+            throw new PaymentDomainException("Credit amount of customer " + customerId.getValue() + " is out of range", e);
+        }
     }
 
     public void subtractCreditAmount(Money amount){
-        totalCreditAmount = totalCreditAmount.subtract(amount);
+        try {
+            totalCreditAmount = totalCreditAmount.subtract(amount);
+        } catch (ArithmeticException e) {
+            throw new PaymentDomainException("Credit amount of customer " + customerId.getValue() + " is out of range", e);
+        }
     }
     public CustomerId getCustomerId() {
         return customerId;
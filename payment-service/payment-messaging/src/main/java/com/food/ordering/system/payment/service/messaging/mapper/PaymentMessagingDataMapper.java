@@ -1,16 +1,25 @@
 package com.food.ordering.system.payment.service.messaging.mapper;
 
+import com.food.ordering.system.domain.id.DomainIds;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.kafka.order.avro.converter.UuidAvroConverter;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
 import com.food.ordering.system.domain.valueobject.OrderPaymentStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModelV2;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModelV2;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.math.BigDecimal;
+
 
 @Component
 public class PaymentMessagingDataMapper {
@@ -18,7 +27,7 @@ public class PaymentMessagingDataMapper {
     public PaymentResponseAvroModel
     paymentCompletedEventToPaymentResponseAvroModel(PaymentCompletedEvent paymentCompletedEvent) {
         return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(DomainIds.newId().toString())
                 .setSagaId("")
                 .setPaymentId(paymentCompletedEvent.getPayment().getId().getValue().toString())
                 .setCustomerId(paymentCompletedEvent.getPayment().getCustomerId().getValue().toString())
@@ -33,7 +42,7 @@ public class PaymentMessagingDataMapper {
     public PaymentResponseAvroModel
     paymentCancelledEventToPaymentResponseAvroModel(PaymentCancelledEvent paymentCancelledEvent) {
         return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(DomainIds.newId().toString())
                 .setSagaId("")
                 .setPaymentId(paymentCancelledEvent.getPayment().getId().getValue().toString())
                 .setCustomerId(paymentCancelledEvent.getPayment().getCustomerId().getValue().toString())
@@ -48,7 +57,7 @@ public class PaymentMessagingDataMapper {
     public PaymentResponseAvroModel
     paymentFailedEventToPaymentResponseAvroModel(PaymentFailedEvent paymentFailedEvent) {
         return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(DomainIds.newId().toString())
                 .setSagaId("")
                 .setPaymentId(paymentFailedEvent.getPayment().getId().getValue().toString())
                 .setCustomerId(paymentFailedEvent.getPayment().getCustomerId().getValue().toString())
@@ -71,4 +80,38 @@ public class PaymentMessagingDataMapper {
                 .orderPaymentStatus(OrderPaymentStatus.valueOf(paymentRequestAvroModel.getPaymentOrderStatus().name()))
                 .build();
     }
+
+    public PaymentResponseAvroModelV2 paymentEventToPaymentResponseAvroModelV2(PaymentEvent paymentEvent) {
+        Payment payment = paymentEvent.getPayment();
+        return PaymentResponseAvroModelV2.newBuilder()
+                .setId(UuidAvroConverter.toAvro(DomainIds.newId()))
+                .setSagaId(null)
+                .setPaymentId(UuidAvroConverter.toAvro(payment.getId().getValue()))
+                .setCustomerId(UuidAvroConverter.toAvro(payment.getCustomerId().getValue()))
+                .setOrderId(UuidAvroConverter.toAvro(payment.getOrderId().getValue()))
+                .setPriceCents(payment.getPrice().getCents())
+                .setCreatedAt(paymentEvent.getCreatedAt().toInstant())
+                .setPaymentStatus(PaymentStatus.valueOf(payment.getPaymentStatus().name()))
+                .setFailureMessages(paymentEvent.getFailureMessages())
+                .build();
+    }
+
+    public PaymentRequest avroModelToPaymentRequest(SpecificRecordBase avroModel) {
+        if (avroModel instanceof PaymentRequestAvroModelV2 paymentRequestAvroModelV2) {
+            return paymentRequestAvroModelV2ToPaymentRequest(paymentRequestAvroModelV2);
+        }
+        return paymentRequestAvroModelToPaymentRequest((PaymentRequestAvroModel) avroModel);
+    }
+
+    public PaymentRequest paymentRequestAvroModelV2ToPaymentRequest(PaymentRequestAvroModelV2 paymentRequestAvroModel) {
+        return PaymentRequest.builder()
+                .id(UuidAvroConverter.toString(paymentRequestAvroModel.getId()))
+                .sagaId(UuidAvroConverter.toString(paymentRequestAvroModel.getSagaId()))
+                .customerId(UuidAvroConverter.toString(paymentRequestAvroModel.getCustomerId()))
+                .orderId(UuidAvroConverter.toString(paymentRequestAvroModel.getOrderId()))
+                .price(BigDecimal.valueOf(paymentRequestAvroModel.getPriceCents(), Money.SCALE))
+                .createdAt(paymentRequestAvroModel.getCreatedAt())
+                .orderPaymentStatus(OrderPaymentStatus.valueOf(paymentRequestAvroModel.getPaymentOrderStatus().name()))
+                .build();
+    }
 }
@@ -1,56 +1,61 @@
 package com.food.ordering.system.payment.service.messaging.mapper.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
-import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.consumer.dispatch.GroupRecordFailedException;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedBatchDispatcher;
+import com.food.ordering.system.payment.service.domain.exception.PaymentRequestBatchException;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
 import com.food.ordering.system.payment.service.messaging.mapper.PaymentMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
-public class PaymentRequestKafkaListener implements KafkaConsumer<PaymentRequestAvroModel> {
+public class PaymentRequestKafkaListener implements KafkaConsumer<SpecificRecordBase> {
 
     private final PaymentRequestMessageListener paymentRequestMessageListener;
     private final PaymentMessagingDataMapper paymentMessagingDataMapper;
+    private final KeyOrderedBatchDispatcher keyOrderedBatchDispatcher;
 
     public PaymentRequestKafkaListener(PaymentRequestMessageListener paymentRequestMessageListener,
-                                       PaymentMessagingDataMapper paymentMessagingDataMapper) {
+                                       PaymentMessagingDataMapper paymentMessagingDataMapper,
+                                       KeyOrderedBatchDispatcher keyOrderedBatchDispatcher) {
         this.paymentRequestMessageListener = paymentRequestMessageListener;
         this.paymentMessagingDataMapper = paymentMessagingDataMapper;
+        this.keyOrderedBatchDispatcher = keyOrderedBatchDispatcher;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}",
                 topics = "${payment-service.payment-request-topic-name}")
-    public void receive(@Payload List<PaymentRequestAvroModel> messages,
+    public void receive(@Payload List<SpecificRecordBase> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
-                        @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        Acknowledgment acknowledgment) {
         log.info("{} number of payment requests received with keys:{}, partitions:{} and offsets: {}",
                 messages.size(),
                 keys.toString(),
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(paymentRequestAvroModel -> {
-            if (PaymentOrderStatus.PENDING == paymentRequestAvroModel.getPaymentOrderStatus()) {
-                log.info("Processing payment for order id: {}", paymentRequestAvroModel.getOrderId());
-                paymentRequestMessageListener.completePayment(paymentMessagingDataMapper
-                        .paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
-            } else if(PaymentOrderStatus.CANCELLED == paymentRequestAvroModel.getPaymentOrderStatus()) {
-                log.info("Cancelling payment for order id: {}", paymentRequestAvroModel.getOrderId());
-                paymentRequestMessageListener.cancelPayment(paymentMessagingDataMapper
-                        .paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
+        keyOrderedBatchDispatcher.dispatchGroups(messages, keys, acknowledgment, group -> {
+            try {
+                paymentRequestMessageListener.paymentRequestsReceived(group.stream()
+                        .map(paymentMessagingDataMapper::avroModelToPaymentRequest)
+                        .collect(Collectors.toList()));
+            } catch (PaymentRequestBatchException e) {
+                throw new GroupRecordFailedException(e.getFailedIndex(), e);
             }
         });
-
     }
 }
@@ -1,13 +1,15 @@
 package com.food.ordering.system.payment.service.messaging.mapper.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
 import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.KafkaProducerProfiles;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
 import com.food.ordering.system.payment.service.domain.config.PaymentServiceDataConfig;
 import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
 import com.food.ordering.system.payment.service.messaging.mapper.PaymentMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -15,18 +17,21 @@ import org.springframework.stereotype.Component;
 public class PaymentFailedKafkaMessagePublisher implements PaymentFailedMessagePublisher {
 
     private final PaymentMessagingDataMapper paymentMessagingDataMapper;
-    private final KafkaProducer<String, PaymentResponseAvroModel> kafkaProducer;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
     private final PaymentServiceDataConfig paymentServiceConfigData;
     private final KafkaMessageHelper kafkaMessageHelper;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
 
     public PaymentFailedKafkaMessagePublisher(PaymentMessagingDataMapper paymentMessagingDataMapper,
-                                              KafkaProducer<String, PaymentResponseAvroModel> kafkaProducer,
+                                              KafkaProducerProfiles<String, SpecificRecordBase> kafkaProducerProfiles,
                                               PaymentServiceDataConfig paymentServiceConfigData,
-                                              KafkaMessageHelper kafkaMessageHelper) {
+                                              KafkaMessageHelper kafkaMessageHelper,
+                                              KafkaProducerConfigData kafkaProducerConfigData) {
         this.paymentMessagingDataMapper = paymentMessagingDataMapper;
-        this.kafkaProducer = kafkaProducer;
+        this.kafkaProducer = kafkaProducerProfiles.forProfile(KafkaProducerConfigData.INTERACTIVE_PROFILE);
         this.paymentServiceConfigData = paymentServiceConfigData;
         this.kafkaMessageHelper = kafkaMessageHelper;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
     }
 
     @Override
@@ -36,7 +41,8 @@ public class PaymentFailedKafkaMessagePublisher implements PaymentFailedMessageP
         log.info("Received PaymentFailedEvent for order id: {}", orderId);
 
         try {
-            PaymentResponseAvroModel paymentResponseAvroModel =
+            SpecificRecordBase paymentResponseAvroModel = kafkaProducerConfigData.getAvroSchemaVersion() == 2 ?
+                    paymentMessagingDataMapper.paymentEventToPaymentResponseAvroModelV2(domainEvent) :
                     paymentMessagingDataMapper.paymentFailedEventToPaymentResponseAvroModel(domainEvent);
 
             kafkaProducer.send(paymentServiceConfigData.getPaymentResponseTopicName(),
@@ -0,0 +1,96 @@
+package com.food.ordering.system.payment.service.messaging.mapper.publisher.kafka;
+
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.KafkaProducerProfiles;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedMessage;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceDataConfig;
+import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentResponseMessagePublisher;
+import com.food.ordering.system.payment.service.messaging.mapper.PaymentMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class PaymentResponseKafkaMessagePublisher implements PaymentResponseMessagePublisher {
+
+    private final PaymentMessagingDataMapper paymentMessagingDataMapper;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+    private final PaymentServiceDataConfig paymentServiceConfigData;
+    private final KafkaMessageHelper kafkaMessageHelper;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
+
+    public PaymentResponseKafkaMessagePublisher(PaymentMessagingDataMapper paymentMessagingDataMapper,
+                                                KafkaProducerProfiles<String, SpecificRecordBase> kafkaProducerProfiles,
+                                                PaymentServiceDataConfig paymentServiceConfigData,
+                                                KafkaMessageHelper kafkaMessageHelper,
+                                                KafkaProducerConfigData kafkaProducerConfigData) {
+        this.paymentMessagingDataMapper = paymentMessagingDataMapper;
+        this.kafkaProducer = kafkaProducerProfiles.forProfile(KafkaProducerConfigData.INTERACTIVE_PROFILE);
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        this.kafkaMessageHelper = kafkaMessageHelper;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
+    }
+
+    @Override
+    public void publish(PaymentEvent domainEvent) {
+        String orderId = domainEvent.getPayment().getOrderId().getValue().toString();
+
+        log.info("Received {} for order id: {}", domainEvent.getClass().getSimpleName(), orderId);
+
+        try {
+            SpecificRecordBase paymentResponseAvroModel = toPaymentResponseAvroModel(domainEvent);
+
+            kafkaProducer.send(paymentServiceConfigData.getPaymentResponseTopicName(),
+                    orderId,
+                    paymentResponseAvroModel,
+                    kafkaMessageHelper.getKafkaCallBack(paymentServiceConfigData.getPaymentResponseTopicName(),
+                            paymentResponseAvroModel,
+                            orderId,
+                            "PaymentResponseAvroModel"));
+
+            log.info("PaymentResponseAvroModel sent to kafka for order id: {}", orderId);
+        } catch (Exception e) {
+            log.error("Error while sending PaymentResponseAvroModel message" +
+                    " to kafka with order id: {}, error: {}", orderId, e.getMessage());
+        }
+    }
+
+    @Override
+    public Set<Integer> publishAll(List<PaymentEvent> domainEvents) {
+        List<KeyedMessage<String, SpecificRecordBase>> messages = new ArrayList<>(domainEvents.size());
+        for (PaymentEvent domainEvent : domainEvents) {
+            messages.add(new KeyedMessage<>(domainEvent.getPayment().getOrderId().getValue().toString(),
+                    toPaymentResponseAvroModel(domainEvent)));
+        }
+        Set<Integer> failedIndexes = kafkaMessageHelper.sendAll(kafkaProducer,
+                paymentServiceConfigData.getPaymentResponseTopicName(), messages, "PaymentResponseAvroModel");
+        log.info("{} of {} PaymentResponseAvroModel messages sent to kafka", messages.size() - failedIndexes.size(),
+                messages.size());
+        return failedIndexes;
+    }
+
+    private SpecificRecordBase toPaymentResponseAvroModel(PaymentEvent domainEvent) {
+        if (kafkaProducerConfigData.getAvroSchemaVersion() == 2) {
+            return paymentMessagingDataMapper.paymentEventToPaymentResponseAvroModelV2(domainEvent);
+        }
+        if (domainEvent instanceof PaymentCompletedEvent paymentCompletedEvent) {
+            return paymentMessagingDataMapper.paymentCompletedEventToPaymentResponseAvroModel(paymentCompletedEvent);
+        }
+        if (domainEvent instanceof PaymentCancelledEvent paymentCancelledEvent) {
+            return paymentMessagingDataMapper.paymentCancelledEventToPaymentResponseAvroModel(paymentCancelledEvent);
+        }
+        return paymentMessagingDataMapper.paymentFailedEventToPaymentResponseAvroModel(
+                (PaymentFailedEvent) domainEvent);
+    }
+}
@@ -26,7 +26,9 @@ CREATE TABLE restaurant.order_approval
     restaurant_id uuid NOT NULL,
     order_id uuid NOT NULL,
     status approval_status NOT NULL,
-    CONSTRAINT order_approval_pkey PRIMARY KEY (id)
+    failure_messages character varying COLLATE pg_catalog."default",
+    CONSTRAINT order_approval_pkey PRIMARY KEY (id),
+    CONSTRAINT order_approval_order_id_key UNIQUE (order_id)
 );
 
 DROP TABLE IF EXISTS restaurant.products CASCADE;
@@ -21,4 +21,5 @@ public class OrderApprovalEntity {
     private UUID orderId;
     @Enumerated(EnumType.STRING)
     private OrderApprovalStatus status;
+    private String failureMessages;
 }
@@ -15,7 +15,9 @@ import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 import com.food.ordering.system.restaurant.service.domain.valueobject.OrderApprovalId;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -57,6 +59,8 @@ public class RestaurantDataAccessMapper {
                 .restaurantId(orderApproval.getRestaurantId().getValue())
                 .orderId(orderApproval.getOrderId().getValue())
                 .status(orderApproval.getOrderApprovalStatus())
+                .failureMessages(Objects.nonNull(orderApproval.getFailureMessages()) ?
+                        String.join(",", orderApproval.getFailureMessages()) : "")
                 .build();
     }
 
@@ -66,6 +70,9 @@ public class RestaurantDataAccessMapper {
                 .restaurantId(new RestaurantId(orderApprovalEntity.getRestaurantId()))
                 .orderId(new OrderId(orderApprovalEntity.getOrderId()))
                 .orderApprovalStatus(orderApprovalEntity.getStatus())
+                .failureMessages(Objects.isNull(orderApprovalEntity.getFailureMessages()) ||
+                        orderApprovalEntity.getFailureMessages().isEmpty() ? List.of() :
+                        Arrays.stream(orderApprovalEntity.getFailureMessages().split(",")).toList())
                 .build();
     }
 
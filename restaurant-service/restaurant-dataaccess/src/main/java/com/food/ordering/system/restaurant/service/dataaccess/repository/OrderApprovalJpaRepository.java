@@ -5,10 +5,12 @@ import com.food.ordering.system.restaurant.service.dataaccess.entity.OrderApprov
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface OrderApprovalJpaRepository extends JpaRepository<OrderApprovalEntity, UUID> {
 
+    Optional<OrderApprovalEntity> findByOrderId(UUID orderId);
 
 }
@@ -0,0 +1,23 @@
+package com.food.ordering.system.restaurant.service.domain.exception;
+
+/**
+ * A request of a batch could not be processed or its response could not be sent. The responses of every request
+ * before {@code failedIndex} in the batch have been sent, the ones after it may have been.
+ */
+public class RestaurantApprovalRequestBatchException extends RestaurantApplicationServiceException {
+    private final int failedIndex;
+
+    public RestaurantApprovalRequestBatchException(String message, int failedIndex) {
+        super(message);
+        this.failedIndex = failedIndex;
+    }
+
+    public RestaurantApprovalRequestBatchException(String message, int failedIndex, Throwable cause) {
+        super(message, cause);
+        this.failedIndex = failedIndex;
+    }
+
+    public int getFailedIndex() {
+        return failedIndex;
+    }
+}
@@ -8,8 +8,10 @@ import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApproval
 import com.food.ordering.system.restaurant.service.domain.entity.OrderDetail;
 import com.food.ordering.system.restaurant.service.domain.entity.Product;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
+import com.food.ordering.system.restaurant.service.domain.exception.RestaurantDomainException;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,9 +29,17 @@ public class RestaurantDataMapper {
                                         .quantity(product.getQuantity())
                                         .build())
                                 .collect(Collectors.toList()))
-                        .totalAmount(new Money(restaurantApprovalRequest.getPrice()))
+                        .totalAmount(toMoney(restaurantApprovalRequest.getPrice()))
                         .orderStatus(OrderStatus.valueOf(restaurantApprovalRequest.getRestaurantOrderStatus().name()))
                         .build())
                 .build();
     }
+
+    private static Money toMoney(BigDecimal amount) {
+        try {
+            return new Money(amount);
+        } catch (ArithmeticException e) {
+            throw new RestaurantDomainException("Amount " + amount.toPlainString() + " is out of range", e);
+        }
+    }
 }
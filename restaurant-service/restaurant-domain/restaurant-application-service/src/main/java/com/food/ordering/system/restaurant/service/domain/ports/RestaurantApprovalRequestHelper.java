@@ -1,10 +1,15 @@
 package com.food.ordering.system.restaurant.service.domain.ports;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.restaurant.service.domain.RestaurantDomainService;
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
+import com.food.ordering.system.restaurant.service.domain.event.OrderRejectedEvent;
 import com.food.ordering.system.restaurant.service.domain.exception.RestaurantNotFoundException;
 import com.food.ordering.system.restaurant.service.domain.mapper.RestaurantDataMapper;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderApprovalRepository;
@@ -13,8 +18,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,9 +46,20 @@ public class RestaurantApprovalRequestHelper {
         this.orderApprovalRepository = orderApprovalRepository;
     }
 
+    /**
+     * For a redelivered request the order already has an approval, whose decision is returned again: the response
+     * to the first delivery may never have been sent.
+     */
     @Transactional
     public OrderApprovalEvent persistOrderApproval(RestaurantApprovalRequest restaurantApprovalRequest) {
         log.info("Processing restaurant approval for order id: {}", restaurantApprovalRequest.getOrderId());
+        Optional<OrderApproval> existingOrderApproval =
+                orderApprovalRepository.findByOrderId(UUID.fromString(restaurantApprovalRequest.getOrderId()));
+        if (existingOrderApproval.isPresent()) {
+            log.info("Order approval for order id {} already exists, publishing its decision again",
+                    restaurantApprovalRequest.getOrderId());
+            return toOrderApprovalEvent(existingOrderApproval.get());
+        }
         List<String> failureMessages = new ArrayList<>();
         Restaurant restaurant = findRestaurant(restaurantApprovalRequest);
         OrderApprovalEvent orderApprovalEvent =
@@ -50,6 +70,17 @@ public class RestaurantApprovalRequestHelper {
         return orderApprovalEvent;
     }
 
+    private OrderApprovalEvent toOrderApprovalEvent(OrderApproval orderApproval) {
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneId.of("UTC"));
+        List<String> failureMessages = Objects.requireNonNullElse(orderApproval.getFailureMessages(), List.of());
+        return switch (orderApproval.getOrderApprovalStatus()) {
+            case APPROVED -> new OrderApprovedEvent(orderApproval, orderApproval.getRestaurantId(),
+                    failureMessages, createdAt);
+            case REJECTED -> new OrderRejectedEvent(orderApproval, orderApproval.getRestaurantId(),
+                    failureMessages, createdAt);
+        };
+    }
+
     private Restaurant findRestaurant(RestaurantApprovalRequest restaurantApprovalRequest) {
         Restaurant restaurant = restaurantDataMapper
                 .restaurantApprovalRequestToRestaurant(restaurantApprovalRequest);
@@ -62,12 +93,13 @@ public class RestaurantApprovalRequestHelper {
 
         Restaurant restaurantEntity = restaurantResult.get();
         restaurant.setActive(restaurantEntity.isActive());
-        restaurant.getOrderDetail().getProducts().forEach(product ->
-                restaurantEntity.getOrderDetail().getProducts().forEach(p -> {
-            if (p.getId().equals(product.getId())) {
+        Map<ProductId, Product> productIndex = restaurantEntity.getProductIndex();
+        restaurant.getOrderDetail().getProducts().forEach(product -> {
+            Product p = productIndex.get(product.getId());
+            if (p != null) {
                 product.updateWithConfirmedNamePriceAndAvailability(p.getName(), p.getPrice(), p.isAvailable());
             }
-        }));
+        });
         restaurant.getOrderDetail().setId(new OrderId(UUID.fromString(restaurantApprovalRequest.getOrderId())));
 
         return restaurant;
@@ -4,12 +4,19 @@ import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApproval
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
 import com.food.ordering.system.restaurant.service.domain.event.OrderRejectedEvent;
+import com.food.ordering.system.restaurant.service.domain.exception.RestaurantApprovalRequestBatchException;
 import com.food.ordering.system.restaurant.service.domain.ports.input.message.listener.RestaurantApprovalRequestMessageListener;
+import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.OrderApprovalResponseMessagePublisher;
 import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.OrderApprovedMessagePublisher;
 import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.OrderRejectedMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Service
 public class RestaurantApprovalRequestMessageListenerImpl implements RestaurantApprovalRequestMessageListener {
@@ -17,14 +24,18 @@ public class RestaurantApprovalRequestMessageListenerImpl implements RestaurantA
     private final RestaurantApprovalRequestHelper restaurantApprovalRequestHelper;
     private final OrderApprovedMessagePublisher orderApprovedMessagePublisher;
     private final OrderRejectedMessagePublisher orderRejectedMessagePublisher;
+    private final OrderApprovalResponseMessagePublisher orderApprovalResponseMessagePublisher;
 
     public RestaurantApprovalRequestMessageListenerImpl(RestaurantApprovalRequestHelper
                                                                 restaurantApprovalRequestHelper,
                                                         OrderApprovedMessagePublisher orderApprovedMessagePublisher,
-                                                        OrderRejectedMessagePublisher orderRejectedMessagePublisher) {
+                                                        OrderRejectedMessagePublisher orderRejectedMessagePublisher,
+                                                        OrderApprovalResponseMessagePublisher
+                                                                orderApprovalResponseMessagePublisher) {
         this.restaurantApprovalRequestHelper = restaurantApprovalRequestHelper;
         this.orderApprovedMessagePublisher = orderApprovedMessagePublisher;
         this.orderRejectedMessagePublisher = orderRejectedMessagePublisher;
+        this.orderApprovalResponseMessagePublisher = orderApprovalResponseMessagePublisher;
     }
 
     @Override
@@ -37,4 +48,33 @@ public class RestaurantApprovalRequestMessageListenerImpl implements RestaurantA
             orderRejectedMessagePublisher.publish((OrderRejectedEvent) orderApprovalEvent);
         }
     }
+
+    @Override
+    public void approveOrders(List<RestaurantApprovalRequest> restaurantApprovalRequests) {
+        List<OrderApprovalEvent> orderApprovalEvents = new ArrayList<>(restaurantApprovalRequests.size());
+        RestaurantApprovalRequestBatchException processingFailure = null;
+        for (int index = 0; index < restaurantApprovalRequests.size(); index++) {
+            RestaurantApprovalRequest restaurantApprovalRequest = restaurantApprovalRequests.get(index);
+            log.info("Processing order approval for order id: {}", restaurantApprovalRequest.getOrderId());
+            try {
+                orderApprovalEvents.add(restaurantApprovalRequestHelper.persistOrderApproval(restaurantApprovalRequest));
+            } catch (RuntimeException e) {
+                processingFailure = new RestaurantApprovalRequestBatchException("Could not process order approval " +
+                        "for order id: " + restaurantApprovalRequest.getOrderId(), index, e);
+                break;
+            }
+        }
+
+        // Every processed request has exactly one event, so an event index is also its request index.
+        Set<Integer> failedIndexes = orderApprovalEvents.isEmpty() ? Set.of() :
+                orderApprovalResponseMessagePublisher.publishAll(orderApprovalEvents);
+        if (!failedIndexes.isEmpty()) {
+            int failedIndex = Collections.min(failedIndexes);
+            throw new RestaurantApprovalRequestBatchException("Could not send order approval response for order " +
+                    "id: " + restaurantApprovalRequests.get(failedIndex).getOrderId(), failedIndex);
+        }
+        if (processingFailure != null) {
+            throw processingFailure;
+        }
+    }
 }
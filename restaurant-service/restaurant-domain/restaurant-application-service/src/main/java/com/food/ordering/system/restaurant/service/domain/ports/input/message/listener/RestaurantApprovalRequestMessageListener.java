@@ -2,6 +2,16 @@ package com.food.ordering.system.restaurant.service.domain.ports.input.message.l
 
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
 
+import java.util.List;
+
 public interface RestaurantApprovalRequestMessageListener {
     void approveOrder(RestaurantApprovalRequest restaurantApprovalRequest);
+
+    /**
+     * Processes the requests in order, then sends their responses together and waits for each of them.
+     *
+     * @throws com.food.ordering.system.restaurant.service.domain.exception.RestaurantApprovalRequestBatchException
+     * at the first request that could not be processed or whose response could not be sent
+     */
+    void approveOrders(List<RestaurantApprovalRequest> restaurantApprovalRequests);
 }
@@ -0,0 +1,10 @@
+package com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher;
+
+import com.food.ordering.system.domain.event.publisher.BatchDomainEventPublisher;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
+
+/**
+ * Publishes approved and rejected orders alike, so the responses of a batch keep their order.
+ */
+public interface OrderApprovalResponseMessagePublisher extends BatchDomainEventPublisher<OrderApprovalEvent> {
+}
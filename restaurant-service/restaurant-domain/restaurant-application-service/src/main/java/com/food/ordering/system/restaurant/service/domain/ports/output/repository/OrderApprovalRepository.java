@@ -2,6 +2,11 @@ package com.food.ordering.system.restaurant.service.domain.ports.output.reposito
 
 import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
 
+import java.util.Optional;
+import java.util.UUID;
+
 public interface OrderApprovalRepository {
     OrderApproval save(OrderApproval orderApproval);
+
+    Optional<OrderApproval> findByOrderId(UUID orderId);
 }
@@ -24,14 +24,14 @@ public class RestaurantDomainServiceImpl implements RestaurantDomainService {
 
         if (failureMessages.isEmpty()) {
             log.info("Order is approved for order id: {}", restaurant.getOrderDetail().getId().getValue());
-            restaurant.constructOrderApproval(OrderApprovalStatus.APPROVED);
+            restaurant.constructOrderApproval(OrderApprovalStatus.APPROVED, failureMessages);
             return new OrderApprovedEvent(restaurant.getOrderApproval(),
                     restaurant.getId(),
                     failureMessages,
                     ZonedDateTime.now(ZoneId.of(UTC)));
         } else {
             log.info("Order is rejected for order id: {}", restaurant.getOrderDetail().getId().getValue());
-            restaurant.constructOrderApproval(OrderApprovalStatus.REJECTED);
+            restaurant.constructOrderApproval(OrderApprovalStatus.REJECTED, failureMessages);
             return new OrderRejectedEvent(restaurant.getOrderApproval(),
                     restaurant.getId(),
                     failureMessages,
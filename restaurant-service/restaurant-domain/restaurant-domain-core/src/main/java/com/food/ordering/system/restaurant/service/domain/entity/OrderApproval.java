@@ -6,10 +6,13 @@ import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.valueobject.OrderApprovalId;
 
+import java.util.List;
+
 public class OrderApproval extends BaseEntity<OrderApprovalId> {
     private final RestaurantId restaurantId;
     private final OrderId orderId;
     private final OrderApprovalStatus orderApprovalStatus;
+    private final List<String> failureMessages;
 
     public RestaurantId getRestaurantId() {
         return restaurantId;
@@ -23,11 +26,16 @@ public class OrderApproval extends BaseEntity<OrderApprovalId> {
         return orderApprovalStatus;
     }
 
+    public List<String> getFailureMessages() {
+        return failureMessages;
+    }
+
     private OrderApproval(Builder builder) {
         setId(builder.orderApprovalId);
         restaurantId = builder.restaurantId;
         orderId = builder.orderId;
         orderApprovalStatus = builder.orderApprovalStatus;
+        failureMessages = builder.failureMessages;
     }
 
 
@@ -36,6 +44,7 @@ public class OrderApproval extends BaseEntity<OrderApprovalId> {
         private RestaurantId restaurantId;
         private OrderId orderId;
         private OrderApprovalStatus orderApprovalStatus;
+        private List<String> failureMessages;
 
         private Builder() {
         }
@@ -64,6 +73,11 @@ public class OrderApproval extends BaseEntity<OrderApprovalId> {
             return this;
         }
 
+        public Builder failureMessages(List<String> val) {
+            failureMessages = val;
+            return this;
+        }
+
         public OrderApproval build() {
             return new OrderApproval(this);
         }
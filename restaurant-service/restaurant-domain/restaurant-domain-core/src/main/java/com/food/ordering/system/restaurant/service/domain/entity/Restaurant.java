@@ -1,42 +1,55 @@
 package com.food.ordering.system.restaurant.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.id.DomainIds;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.restaurant.service.domain.exception.RestaurantDomainException;
 import com.food.ordering.system.restaurant.service.domain.valueobject.OrderApprovalId;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
     private OrderApproval orderApproval;
     private boolean active;
     private final OrderDetail orderDetail;
+    private final Map<ProductId, Product> productIndex;
 
     public void validateOrder(List<String> failureMessages){
         if (!OrderStatus.PAID.equals(orderDetail.getOrderStatus())){
             failureMessages.add("Payment not completed for order " + orderDetail.getId().getValue());
         }
-        Money totalAmount = orderDetail.getProducts().stream().map(product -> {
+        long totalAmountCents = 0L;
+        for (Product product : orderDetail.getProducts()) {
             if (!product.isAvailable()){
                 failureMessages.add("Product with id " + product.getId().getValue() + " is not available");
             }
-            return product.getPrice().multiply(product.getQuantity());
-        }).reduce(Money.ZERO, Money::add);
+            try {
+                totalAmountCents = Math.addExact(totalAmountCents,
+                        Math.multiplyExact(product.getPrice().getCents(), (long) product.getQuantity()));
+            } catch (ArithmeticException e) {
+                throw new RestaurantDomainException("Price total is out of range for order " +
+                        orderDetail.getId().getValue(), e);
+            }
+        }
 
-        if (!totalAmount.equals(orderDetail.getTotalAmount())){
+        if (totalAmountCents != orderDetail.getTotalAmount().getCents()){
             failureMessages.add("Price total is not correct for oder " + orderDetail.getId().getValue());
         }
     }
 
-    public void constructOrderApproval(OrderApprovalStatus orderApprovalStatus){
+    public void constructOrderApproval(OrderApprovalStatus orderApprovalStatus, List<String> failureMessages){
         this.orderApproval = OrderApproval.Builder.newBuilder()
-                .orderApprovalId(new OrderApprovalId(UUID.randomUUID()))
+                .orderApprovalId(new OrderApprovalId(DomainIds.newId()))
                 .restaurantId(this.getId())
-                .orderId(this.getOrderApproval().getOrderId())
+                .orderId(this.getOrderDetail().getId())
                 .orderApprovalStatus(orderApprovalStatus)
+                .failureMessages(failureMessages)
                 .build();
     }
 
@@ -49,6 +62,15 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
         orderApproval = builder.orderApproval;
         active = builder.active;
         orderDetail = builder.orderDetail;
+        productIndex = indexProducts(builder.orderDetail);
+    }
+
+    private static Map<ProductId, Product> indexProducts(OrderDetail orderDetail) {
+        Map<ProductId, Product> productIndex = new HashMap<>();
+        if (orderDetail != null && orderDetail.getProducts() != null) {
+            orderDetail.getProducts().forEach(product -> productIndex.put(product.getId(), product));
+        }
+        return productIndex;
     }
 
     public OrderApproval getOrderApproval() {
@@ -63,6 +85,10 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
         return orderDetail;
     }
 
+    public Map<ProductId, Product> getProductIndex() {
+        return productIndex;
+    }
+
     public static final class Builder {
         private RestaurantId restaurantId;
         private OrderApproval orderApproval;
@@ -1,40 +1,49 @@
 package com.food.ordering.system.restaurant.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.consumer.dispatch.GroupRecordFailedException;
+import com.food.ordering.system.kafka.consumer.dispatch.KeyOrderedBatchDispatcher;
+import com.food.ordering.system.restaurant.service.domain.exception.RestaurantApprovalRequestBatchException;
 import com.food.ordering.system.restaurant.service.domain.ports.input.message.listener.RestaurantApprovalRequestMessageListener;
 import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
-public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<RestaurantApprovalRequestAvroModel> {
+public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<SpecificRecordBase> {
 
     private final RestaurantApprovalRequestMessageListener restaurantApprovalRequestMessageListener;
     private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
+    private final KeyOrderedBatchDispatcher keyOrderedBatchDispatcher;
 
     public RestaurantApprovalRequestKafkaListener(RestaurantApprovalRequestMessageListener
                                                           restaurantApprovalRequestMessageListener,
                                                   RestaurantMessagingDataMapper
-                                                          restaurantMessagingDataMapper) {
+                                                          restaurantMessagingDataMapper,
+                                                  KeyOrderedBatchDispatcher keyOrderedBatchDispatcher) {
         this.restaurantApprovalRequestMessageListener = restaurantApprovalRequestMessageListener;
         this.restaurantMessagingDataMapper = restaurantMessagingDataMapper;
+        this.keyOrderedBatchDispatcher = keyOrderedBatchDispatcher;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
             topics = "${restaurant-service.restaurant-approval-request-topic-name}")
-    public void receive(@Payload List<RestaurantApprovalRequestAvroModel> messages,
+    public void receive(@Payload List<SpecificRecordBase> messages,
                         @Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
                         @Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
-                        @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        Acknowledgment acknowledgment) {
         log.info("{} number of orders approval requests received with keys {}, partitions {} and offsets {}" +
                         ", sending for restaurant approval",
                 messages.size(),
@@ -42,10 +51,14 @@ public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<Res
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(restaurantApprovalRequestAvroModel -> {
-            log.info("Processing order approval for order id: {}", restaurantApprovalRequestAvroModel.getOrderId());
-            restaurantApprovalRequestMessageListener.approveOrder(restaurantMessagingDataMapper.
-                    restaurantApprovalRequestAvroModelToRestaurantApproval(restaurantApprovalRequestAvroModel));
+        keyOrderedBatchDispatcher.dispatchGroups(messages, keys, acknowledgment, group -> {
+            try {
+                restaurantApprovalRequestMessageListener.approveOrders(group.stream()
+                        .map(restaurantMessagingDataMapper::avroModelToRestaurantApproval)
+                        .collect(Collectors.toList()));
+            } catch (RestaurantApprovalRequestBatchException e) {
+                throw new GroupRecordFailedException(e.getFailedIndex(), e);
+            }
         });
     }
 
@@ -1,17 +1,25 @@
 package com.food.ordering.system.restaurant.service.messaging.mapper;
 
 
+import com.food.ordering.system.domain.id.DomainIds;
+import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.order.avro.converter.UuidAvroConverter;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModelV2;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModelV2;
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
 import com.food.ordering.system.restaurant.service.domain.entity.Product;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
 import com.food.ordering.system.restaurant.service.domain.event.OrderRejectedEvent;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -20,7 +28,7 @@ public class RestaurantMessagingDataMapper {
     public RestaurantApprovalResponseAvroModel
     orderApprovedEventToRestaurantApprovalResponseAvroModel(OrderApprovedEvent orderApprovedEvent) {
         return RestaurantApprovalResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(DomainIds.newId().toString())
                 .setSagaId("")
                 .setOrderId(orderApprovedEvent.getOrderApproval().getOrderId().getValue().toString())
                 .setRestaurantId(orderApprovedEvent.getRestaurantId().getValue().toString())
@@ -34,7 +42,7 @@ public class RestaurantMessagingDataMapper {
     public RestaurantApprovalResponseAvroModel
     orderRejectedEventToRestaurantApprovalResponseAvroModel(OrderRejectedEvent orderRejectedEvent) {
         return RestaurantApprovalResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
+                .setId(DomainIds.newId().toString())
                 .setSagaId("")
                 .setOrderId(orderRejectedEvent.getOrderApproval().getOrderId().getValue().toString())
                 .setRestaurantId(orderRejectedEvent.getRestaurantId().getValue().toString())
@@ -66,4 +74,47 @@ public class RestaurantMessagingDataMapper {
                 .createdAt(restaurantApprovalRequestAvroModel.getCreatedAt())
                 .build();
     }
+
+    public RestaurantApprovalResponseAvroModelV2
+    orderApprovalEventToRestaurantApprovalResponseAvroModelV2(OrderApprovalEvent orderApprovalEvent) {
+        return RestaurantApprovalResponseAvroModelV2.newBuilder()
+                .setId(UuidAvroConverter.toAvro(DomainIds.newId()))
+                .setSagaId(null)
+                .setOrderId(UuidAvroConverter.toAvro(orderApprovalEvent.getOrderApproval().getOrderId().getValue()))
+                .setRestaurantId(UuidAvroConverter.toAvro(orderApprovalEvent.getRestaurantId().getValue()))
+                .setCreatedAt(orderApprovalEvent.getCreatedAt().toInstant())
+                .setOrderApprovalStatus(OrderApprovalStatus.valueOf(orderApprovalEvent.
+                        getOrderApproval().getOrderApprovalStatus().name()))
+                .setFailureMessages(orderApprovalEvent.getFailureMessages())
+                .build();
+    }
+
+    public RestaurantApprovalRequest avroModelToRestaurantApproval(SpecificRecordBase avroModel) {
+        if (avroModel instanceof RestaurantApprovalRequestAvroModelV2 restaurantApprovalRequestAvroModelV2) {
+            return restaurantApprovalRequestAvroModelV2ToRestaurantApproval(restaurantApprovalRequestAvroModelV2);
+        }
+        return restaurantApprovalRequestAvroModelToRestaurantApproval((RestaurantApprovalRequestAvroModel) avroModel);
+    }
+
+    public RestaurantApprovalRequest
+    restaurantApprovalRequestAvroModelV2ToRestaurantApproval(RestaurantApprovalRequestAvroModelV2
+                                                                     restaurantApprovalRequestAvroModel) {
+        return RestaurantApprovalRequest.builder()
+                .id(UuidAvroConverter.toString(restaurantApprovalRequestAvroModel.getId()))
+                .sagaId(UuidAvroConverter.toString(restaurantApprovalRequestAvroModel.getSagaId()))
+                .restaurantId(UuidAvroConverter.toString(restaurantApprovalRequestAvroModel.getRestaurantId()))
+                .orderId(UuidAvroConverter.toString(restaurantApprovalRequestAvroModel.getOrderId()))
+                .restaurantOrderStatus(RestaurantOrderStatus.valueOf(restaurantApprovalRequestAvroModel
+                        .getRestaurantOrderStatus().name()))
+                .products(restaurantApprovalRequestAvroModel.getProducts()
+                        .stream().map(avroModel ->
+                                Product.Builder.newBuilder()
+                                        .productId(new ProductId(UuidAvroConverter.fromAvro(avroModel.getId())))
+                                        .quantity(avroModel.getQuantity())
+                                        .build())
+                        .collect(Collectors.toList()))
+                .price(BigDecimal.valueOf(restaurantApprovalRequestAvroModel.getPriceCents(), Money.SCALE))
+                .createdAt(restaurantApprovalRequestAvroModel.getCreatedAt())
+                .build();
+    }
 }
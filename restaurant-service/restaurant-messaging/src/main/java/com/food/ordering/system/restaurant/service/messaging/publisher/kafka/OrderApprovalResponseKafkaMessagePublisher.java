@@ -0,0 +1,98 @@
+package com.food.ordering.system.restaurant.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.KafkaProducerProfiles;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KeyedMessage;
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
+import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
+import com.food.ordering.system.restaurant.service.domain.event.OrderRejectedEvent;
+import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.OrderApprovalResponseMessagePublisher;
+import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class OrderApprovalResponseKafkaMessagePublisher implements OrderApprovalResponseMessagePublisher {
+
+    private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+    private final RestaurantServiceConfigData restaurantServiceConfigData;
+    private final KafkaMessageHelper kafkaMessageHelper;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
+
+    public OrderApprovalResponseKafkaMessagePublisher(RestaurantMessagingDataMapper restaurantMessagingDataMapper,
+                                                      KafkaProducerProfiles<String, SpecificRecordBase>
+                                                              kafkaProducerProfiles,
+                                                      RestaurantServiceConfigData restaurantServiceConfigData,
+                                                      KafkaMessageHelper kafkaMessageHelper,
+                                                      KafkaProducerConfigData kafkaProducerConfigData) {
+        this.restaurantMessagingDataMapper = restaurantMessagingDataMapper;
+        this.kafkaProducer = kafkaProducerProfiles.forProfile(KafkaProducerConfigData.INTERACTIVE_PROFILE);
+        this.restaurantServiceConfigData = restaurantServiceConfigData;
+        this.kafkaMessageHelper = kafkaMessageHelper;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
+    }
+
+    @Override
+    public void publish(OrderApprovalEvent orderApprovalEvent) {
+        String orderId = orderApprovalEvent.getOrderApproval().getOrderId().getValue().toString();
+
+        log.info("Received {} for order id: {}", orderApprovalEvent.getClass().getSimpleName(), orderId);
+
+        try {
+            SpecificRecordBase restaurantApprovalResponseAvroModel =
+                    toRestaurantApprovalResponseAvroModel(orderApprovalEvent);
+
+            kafkaProducer.send(restaurantServiceConfigData.getRestaurantApprovalResponseTopicName(),
+                    orderId,
+                    restaurantApprovalResponseAvroModel,
+                    kafkaMessageHelper.getKafkaCallBack(restaurantServiceConfigData
+                                    .getRestaurantApprovalResponseTopicName(),
+                            restaurantApprovalResponseAvroModel,
+                            orderId,
+                            "RestaurantApprovalResponseAvroModel"));
+
+            log.info("RestaurantApprovalResponseAvroModel sent to kafka for order id: {}", orderId);
+        } catch (Exception e) {
+            log.error("Error while sending RestaurantApprovalResponseAvroModel message" +
+                    " to kafka with order id: {}, error: {}", orderId, e.getMessage());
+        }
+    }
+
+    @Override
+    public Set<Integer> publishAll(List<OrderApprovalEvent> orderApprovalEvents) {
+        List<KeyedMessage<String, SpecificRecordBase>> messages = new ArrayList<>(orderApprovalEvents.size());
+        for (OrderApprovalEvent orderApprovalEvent : orderApprovalEvents) {
+            messages.add(new KeyedMessage<>(orderApprovalEvent.getOrderApproval().getOrderId().getValue().toString(),
+                    toRestaurantApprovalResponseAvroModel(orderApprovalEvent)));
+        }
+        Set<Integer> failedIndexes = kafkaMessageHelper.sendAll(kafkaProducer,
+                restaurantServiceConfigData.getRestaurantApprovalResponseTopicName(), messages,
+                "RestaurantApprovalResponseAvroModel");
+        log.info("{} of {} RestaurantApprovalResponseAvroModel messages sent to kafka",
+                messages.size() - failedIndexes.size(), messages.size());
+        return failedIndexes;
+    }
+
+    private SpecificRecordBase toRestaurantApprovalResponseAvroModel(OrderApprovalEvent orderApprovalEvent) {
+        if (kafkaProducerConfigData.getAvroSchemaVersion() == 2) {
+            return restaurantMessagingDataMapper
+                    .orderApprovalEventToRestaurantApprovalResponseAvroModelV2(orderApprovalEvent);
+        }
+        if (orderApprovalEvent instanceof OrderApprovedEvent orderApprovedEvent) {
+            return restaurantMessagingDataMapper
+                    .orderApprovedEventToRestaurantApprovalResponseAvroModel(orderApprovedEvent);
+        }
+        return restaurantMessagingDataMapper
+                .orderRejectedEventToRestaurantApprovalResponseAvroModel((OrderRejectedEvent) orderApprovalEvent);
+    }
+}
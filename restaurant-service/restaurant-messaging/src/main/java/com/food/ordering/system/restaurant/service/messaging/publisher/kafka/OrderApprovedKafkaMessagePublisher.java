@@ -1,13 +1,15 @@
 package com.food.ordering.system.restaurant.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
 import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.KafkaProducerProfiles;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
 import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
 import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.OrderApprovedMessagePublisher;
 import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -15,18 +17,21 @@ import org.springframework.stereotype.Component;
 public class OrderApprovedKafkaMessagePublisher implements OrderApprovedMessagePublisher {
 
     private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
-    private final KafkaProducer<String, RestaurantApprovalResponseAvroModel> kafkaProducer;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
     private final RestaurantServiceConfigData restaurantServiceConfigData;
     private final KafkaMessageHelper kafkaMessageHelper;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
 
     public OrderApprovedKafkaMessagePublisher(RestaurantMessagingDataMapper restaurantMessagingDataMapper,
-                                              KafkaProducer<String, RestaurantApprovalResponseAvroModel> kafkaProducer,
+                                              KafkaProducerProfiles<String, SpecificRecordBase> kafkaProducerProfiles,
                                               RestaurantServiceConfigData restaurantServiceConfigData,
-                                              KafkaMessageHelper kafkaMessageHelper) {
+                                              KafkaMessageHelper kafkaMessageHelper,
+                                              KafkaProducerConfigData kafkaProducerConfigData) {
         this.restaurantMessagingDataMapper = restaurantMessagingDataMapper;
-        this.kafkaProducer = kafkaProducer;
+        this.kafkaProducer = kafkaProducerProfiles.forProfile(KafkaProducerConfigData.INTERACTIVE_PROFILE);
         this.restaurantServiceConfigData = restaurantServiceConfigData;
         this.kafkaMessageHelper = kafkaMessageHelper;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
     }
 
     @Override
@@ -36,9 +41,9 @@ public class OrderApprovedKafkaMessagePublisher implements OrderApprovedMessageP
         log.info("Received OrderApprovedEvent for order id: {}", orderId);
 
         try {
-            RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel =
-                    restaurantMessagingDataMapper
-                            .orderApprovedEventToRestaurantApprovalResponseAvroModel(orderApprovedEvent);
+            SpecificRecordBase restaurantApprovalResponseAvroModel = kafkaProducerConfigData.getAvroSchemaVersion() == 2 ?
+                    restaurantMessagingDataMapper.orderApprovalEventToRestaurantApprovalResponseAvroModelV2(orderApprovedEvent) :
+                    restaurantMessagingDataMapper.orderApprovedEventToRestaurantApprovalResponseAvroModel(orderApprovedEvent);
 
             kafkaProducer.send(restaurantServiceConfigData.getRestaurantApprovalResponseTopicName(),
                     orderId,
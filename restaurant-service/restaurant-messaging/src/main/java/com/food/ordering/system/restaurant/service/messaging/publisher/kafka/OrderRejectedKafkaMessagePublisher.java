@@ -1,13 +1,15 @@
 package com.food.ordering.system.restaurant.service.messaging.publisher.kafka;
 
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
 import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.KafkaProducerProfiles;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
 import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
 import com.food.ordering.system.restaurant.service.domain.event.OrderRejectedEvent;
 import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.OrderRejectedMessagePublisher;
 import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -15,18 +17,21 @@ import org.springframework.stereotype.Component;
 public class OrderRejectedKafkaMessagePublisher implements OrderRejectedMessagePublisher {
 
     private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
-    private final KafkaProducer<String, RestaurantApprovalResponseAvroModel> kafkaProducer;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
     private final RestaurantServiceConfigData restaurantServiceConfigData;
     private final KafkaMessageHelper kafkaMessageHelper;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
 
     public OrderRejectedKafkaMessagePublisher(RestaurantMessagingDataMapper restaurantMessagingDataMapper,
-                                              KafkaProducer<String, RestaurantApprovalResponseAvroModel> kafkaProducer,
+                                              KafkaProducerProfiles<String, SpecificRecordBase> kafkaProducerProfiles,
                                               RestaurantServiceConfigData restaurantServiceConfigData,
-                                              KafkaMessageHelper kafkaMessageHelper) {
+                                              KafkaMessageHelper kafkaMessageHelper,
+                                              KafkaProducerConfigData kafkaProducerConfigData) {
         this.restaurantMessagingDataMapper = restaurantMessagingDataMapper;
-        this.kafkaProducer = kafkaProducer;
+        this.kafkaProducer = kafkaProducerProfiles.forProfile(KafkaProducerConfigData.INTERACTIVE_PROFILE);
         this.restaurantServiceConfigData = restaurantServiceConfigData;
         this.kafkaMessageHelper = kafkaMessageHelper;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
     }
 
     @Override
@@ -36,9 +41,9 @@ public class OrderRejectedKafkaMessagePublisher implements OrderRejectedMessageP
         log.info("Received OrderRejectedEvent for order id: {}", orderId);
 
         try {
-            RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel =
-                    restaurantMessagingDataMapper
-                            .orderRejectedEventToRestaurantApprovalResponseAvroModel(orderRejectedEvent);
+            SpecificRecordBase restaurantApprovalResponseAvroModel = kafkaProducerConfigData.getAvroSchemaVersion() == 2 ?
+                    restaurantMessagingDataMapper.orderApprovalEventToRestaurantApprovalResponseAvroModelV2(orderRejectedEvent) :
+                    restaurantMessagingDataMapper.orderRejectedEventToRestaurantApprovalResponseAvroModel(orderRejectedEvent);
 
             kafkaProducer.send(restaurantServiceConfigData.getRestaurantApprovalResponseTopicName(),
                     orderId,